@@ -2,12 +2,24 @@ package algorithms;
 
 import metrics.PerformanceTracker;
 
+import java.util.concurrent.ForkJoinPool;
+
 /*
   Kadane algorithm with optimized instrumentation: local counters are accumulated
   inside the loop and flushed to the PerformanceTracker only once at the end.
   This reduces synchronized method call overhead when tracker != null.
+  runParallel splits large arrays into chunks, summarizes them on a ForkJoinPool
+  and merges the KadaneSummary values; the result is identical to run(array).
+  runInto reports the result through a KadaneResultSink instead of allocating a KadaneResult.
+  runBranchless is the same scan without data-dependent branches, for inputs where the
+  restart/improve decisions are unpredictable (e.g. random signs).
+  runAuto picks one of these engines per call from a KadaneCalibration (crossover sizes
+  measured on this machine) and reports the choice through the PerformanceTracker.
 */
 public final class Kadane {
+    // arrays up to this length (and chunks in the parallel engine) are scanned sequentially
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
     public static KadaneResult run(long[] array){
         return run(array, null);
     }
@@ -17,36 +29,18 @@ public final class Kadane {
             throw new IllegalArgumentException("Input is null");
         }
         if (tracker != null) {
-            tracker.reset();
+            tracker.beginRun();
             tracker.startTimer();
         }
         if (array.length == 0) {
             return new KadaneResult(0L,-1,-1);
         }
 
-        // fast path: if no tracker, run minimal-instrumentation loop
+        // fast path: if no tracker, the uninstrumented loop of runInto (one copy of the scan)
         if (tracker == null) {
-            long maxEnding = array[0];
-            long maxSoFar = array[0];
-            int temporaryStart = 0;
-            int start = 0;
-            int end = 0;
-            for (int i = 1; i < array.length; i++) {
-                long current = array[i];
-                long sum = current + maxEnding;
-                if (current > sum) {
-                    maxEnding = current;
-                    temporaryStart = i;
-                } else {
-                    maxEnding = sum;
-                }
-                if (maxEnding > maxSoFar) {
-                    maxSoFar = maxEnding;
-                    start = temporaryStart;
-                    end = i;
-                }
-            }
-            return new KadaneResult(maxSoFar, start, end);
+            MutableKadaneResult result = new MutableKadaneResult();
+            runInto(array, result);
+            return result.toKadaneResult();
         }
 
         // instrumented path with local counter batching
@@ -106,4 +100,146 @@ public final class Kadane {
         return new KadaneResult(maxSoFar, start, end);
     }
 
+    // allocation-free variant of run(array): the result goes to the sink
+    public static void runInto(long[] array, KadaneResultSink sink) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink is null");
+        }
+        if (array.length == 0) {
+            sink.onResult(0L, -1, -1);
+            return;
+        }
+        long maxEnding = array[0];
+        long maxSoFar = array[0];
+        int temporaryStart = 0;
+        int start = 0;
+        int end = 0;
+        for (int i = 1; i < array.length; i++) {
+            long current = array[i];
+            long sum = current + maxEnding;
+            if (current > sum) {
+                maxEnding = current;
+                temporaryStart = i;
+            } else {
+                maxEnding = sum;
+            }
+            if (maxEnding > maxSoFar) {
+                maxSoFar = maxEnding;
+                start = temporaryStart;
+                end = i;
+            }
+        }
+        sink.onResult(maxSoFar, start, end);
+    }
+
+    /*
+      Branchless kernel over prefix sums: per element one compare/select for the best sum and one
+      for the running prefix minimum, each a short loop-carried chain that C2 compiles to
+      conditional moves when the branch profile is unpredictable. Sign-mask arithmetic
+      (sub/sar/and/add) measured about 3x slower: its dependency chain is twice as long.
+      Result and tie-breaking match run(array) whenever prefix sums do not overflow.
+    */
+    public static KadaneResult runBranchless(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (array.length == 0) {
+            return new KadaneResult(0L, -1, -1);
+        }
+        // best subarray ending at i = prefix(i) - lowest earlier prefix (prefix(-1) = 0); a strict
+        // new minimum moves the start exactly where run() restarts, so ties resolve the same way
+        long prefix = 0;
+        long minPrefix = 0;
+        int minIndex = -1;
+        long maxSoFar = Long.MIN_VALUE;
+        int start = 0;
+        int end = 0;
+        for (int i = 0; i < array.length; i++) {
+            prefix += array[i];
+            long candidate = prefix - minPrefix;
+            boolean improve = candidate > maxSoFar;
+            maxSoFar = improve ? candidate : maxSoFar;
+            start = improve ? minIndex + 1 : start;
+            end = improve ? i : end;
+            boolean newMin = prefix < minPrefix;
+            minPrefix = newMin ? prefix : minPrefix;
+            minIndex = newMin ? i : minIndex;
+        }
+        return new KadaneResult(maxSoFar, start, end);
+    }
+
+    public static KadaneResult runParallel(long[] array) {
+        return runParallel(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public static KadaneResult runParallel(long[] array, ForkJoinPool pool) {
+        return runParallel(array, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public static KadaneResult runParallel(long[] array, ForkJoinPool pool, int threshold) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        if (array.length <= threshold) {
+            return run(array);
+        }
+        return pool.invoke(new KadaneSummaryTask(array, 0, array.length, threshold)).toKadaneResult();
+    }
+
+    /*
+      Engine chosen by KadaneCalibration.getDefault(). The first call in a JVM (either overload)
+      runs KadaneCalibration.measure() unless -Dkadane.calibration names a valid file: warm-up of
+      every engine plus parallel probes on arrays of up to 4M longs (32 MB) when there are several
+      cores, about 0.1-1 s. Latency-sensitive callers should call KadaneCalibration.getDefault()
+      (or pass a loadOrMeasure table to the three-argument overload) at startup.
+    */
+    public static KadaneResult runAuto(long[] array) {
+        return runAuto(array, null, KadaneCalibration.getDefault());
+    }
+
+    public static KadaneResult runAuto(long[] array, PerformanceTracker tracker) {
+        return runAuto(array, tracker, KadaneCalibration.getDefault());
+    }
+
+    // tracker gets the chosen engine and the elapsed time; operation counters are not collected
+    public static KadaneResult runAuto(long[] array, PerformanceTracker tracker, KadaneCalibration calibration) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (calibration == null) {
+            throw new IllegalArgumentException("Calibration is null");
+        }
+        if (tracker != null) {
+            tracker.beginRun();
+            tracker.startTimer();
+        }
+        KadaneEngine engine = calibration.choose(array);
+        KadaneResult result = runWith(array, engine);
+        if (tracker != null) {
+            tracker.stopTimer();
+            tracker.setEngine(engine.name());
+        }
+        return result;
+    }
+
+    public static KadaneResult runWith(long[] array, KadaneEngine engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine is null");
+        }
+        return switch (engine) {
+            case SEQUENTIAL -> run(array);
+            case BRANCHLESS -> runBranchless(array);
+            case VECTOR -> KadaneVector.run(array);
+            case PARALLEL -> runParallel(array);
+        };
+    }
 }
@@ -0,0 +1,128 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+  Maximum-sum submatrix (rectangle) over a flat row-major long[] matrix.
+  For each pair of rows (top, bottom) the rows in between are compressed into column sums
+  and Kadane.runInto scans them, so 1D and 2D share one kernel: O(rows^2 * cols).
+  runParallel spreads the top rows over a ForkJoinPool; every task keeps its own column buffer.
+  Ties resolve to the earliest top, then the earliest bottom, then Kadane.run's column rule,
+  so parallel and sequential runs return the same rectangle.
+  Cost is quadratic in rows and linear in cols, so pass the smaller dimension as rows.
+*/
+public final class Kadane2D {
+
+    private Kadane2D() {
+    }
+
+    public static RectangleResult run(long[] matrix, int rows, int cols) {
+        return run(matrix, rows, cols, cols);
+    }
+
+    // stride is the distance between the starts of two consecutive rows (stride >= cols)
+    public static RectangleResult run(long[] matrix, int rows, int cols, int stride) {
+        validate(matrix, rows, cols, stride);
+        if (rows == 0 || cols == 0) {
+            return RectangleResult.EMPTY;
+        }
+        return scanTops(matrix, rows, cols, stride, 0, rows);
+    }
+
+    public static RectangleResult runParallel(long[] matrix, int rows, int cols, ForkJoinPool pool) {
+        return runParallel(matrix, rows, cols, cols, pool);
+    }
+
+    public static RectangleResult runParallel(long[] matrix, int rows, int cols, int stride, ForkJoinPool pool) {
+        validate(matrix, rows, cols, stride);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        if (rows == 0 || cols == 0) {
+            return RectangleResult.EMPTY;
+        }
+        return pool.invoke(new TopRowsTask(matrix, rows, cols, stride, 0, rows));
+    }
+
+    // best rectangle whose top row lies in [topFrom, topTo)
+    private static RectangleResult scanTops(long[] matrix, int rows, int cols, int stride, int topFrom, int topTo) {
+        long[] columnSums = new long[cols];
+        MutableKadaneResult row = new MutableKadaneResult();
+        long bestSum = 0;
+        int bestTop = -1;
+        int bestBottom = -1;
+        int bestLeft = -1;
+        int bestRight = -1;
+
+        for (int top = topFrom; top < topTo; top++) {
+            Arrays.fill(columnSums, 0L);
+            for (int bottom = top; bottom < rows; bottom++) {
+                // compress row `bottom` into the column sums, then scan them with the 1D kernel
+                int base = bottom * stride;
+                for (int c = 0; c < cols; c++) {
+                    columnSums[c] += matrix[base + c];
+                }
+                Kadane.runInto(columnSums, row);
+
+                if (bestTop == -1 || row.getMaxSum() > bestSum) {
+                    bestSum = row.getMaxSum();
+                    bestTop = top;
+                    bestBottom = bottom;
+                    bestLeft = row.getStartIndex();
+                    bestRight = row.getEndIndex();
+                }
+            }
+        }
+        return new RectangleResult(bestSum, bestTop, bestLeft, bestBottom, bestRight);
+    }
+
+    private static void validate(long[] matrix, int rows, int cols, int stride) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Rows and cols must be non-negative");
+        }
+        if (stride < cols) {
+            throw new IllegalArgumentException("Stride " + stride + " is smaller than cols " + cols);
+        }
+        if (rows > 0 && cols > 0 && (long) (rows - 1) * stride + cols > matrix.length) {
+            throw new IllegalArgumentException("Matrix of length " + matrix.length + " is too small for "
+                    + rows + "x" + cols + " with stride " + stride);
+        }
+    }
+
+    // splits the top-row range down to single rows; rows near the top carry more work and get stolen
+    private static final class TopRowsTask extends RecursiveTask<RectangleResult> {
+        private final long[] matrix;
+        private final int rows;
+        private final int cols;
+        private final int stride;
+        private final int topFrom;
+        private final int topTo;
+
+        TopRowsTask(long[] matrix, int rows, int cols, int stride, int topFrom, int topTo) {
+            this.matrix = matrix;
+            this.rows = rows;
+            this.cols = cols;
+            this.stride = stride;
+            this.topFrom = topFrom;
+            this.topTo = topTo;
+        }
+
+        @Override
+        protected RectangleResult compute() {
+            if (topTo - topFrom <= 1) {
+                return scanTops(matrix, rows, cols, stride, topFrom, topTo);
+            }
+            int mid = (topFrom + topTo) >>> 1;
+            TopRowsTask left = new TopRowsTask(matrix, rows, cols, stride, topFrom, mid);
+            TopRowsTask right = new TopRowsTask(matrix, rows, cols, stride, mid, topTo);
+            left.fork();
+            RectangleResult rightResult = right.compute();
+            return left.join().better(rightResult);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package algorithms;
+
+import java.nio.LongBuffer;
+import java.util.function.LongConsumer;
+
+/*
+  Incremental (streaming) Kadane state for unbounded input.
+  - accept(value), accept(array, off, len), accept(LongBuffer) feed values in order.
+  - result() returns the best subarray so far with long global offsets.
+  - summary() returns the full KadaneSummary, so accumulators over adjacent ranges can be merged.
+  State is a fixed set of primitive fields; accepting values never allocates (except one
+  scratch block, the first time a direct LongBuffer is accepted).
+  Not thread-safe: feed one accumulator from one thread at a time.
+*/
+public final class KadaneAccumulator implements LongConsumer {
+    // scratch block for buffers without a backing array
+    private static final int BLOCK = 1 << 12;
+
+    private final long startOffset;
+    private long[] block;
+
+    private long count;
+    private long total;
+    private long prefixSum;
+    private long prefixEnd;
+    private long minBefore;
+    private long suffixStart;
+    private long maxEnding;
+    private long temporaryStart;
+    private long maxSoFar;
+    private long start;
+    private long end;
+
+    public KadaneAccumulator() {
+        this(0L);
+    }
+
+    // startOffset is the global offset assigned to the first accepted value
+    public KadaneAccumulator(long startOffset) {
+        if (startOffset < 0) {
+            throw new IllegalArgumentException("Start offset must be non-negative");
+        }
+        this.startOffset = startOffset;
+        reset();
+    }
+
+    @Override
+    public void accept(long value) {
+        long i = startOffset + count;
+        if (count == 0) {
+            total = value;
+            prefixSum = value;
+            prefixEnd = i;
+            minBefore = 0;
+            suffixStart = i;
+            maxEnding = value;
+            temporaryStart = i;
+            maxSoFar = value;
+            start = i;
+            end = i;
+            count = 1;
+            return;
+        }
+        if (total < minBefore) {
+            minBefore = total;
+            suffixStart = i;
+        }
+        total += value;
+        if (total > prefixSum) {
+            prefixSum = total;
+            prefixEnd = i;
+        }
+        long sum = value + maxEnding;
+        if (value > sum) {
+            maxEnding = value;
+            temporaryStart = i;
+        } else {
+            maxEnding = sum;
+        }
+        if (maxEnding > maxSoFar) {
+            maxSoFar = maxEnding;
+            start = temporaryStart;
+            end = i;
+        }
+        count++;
+    }
+
+    public void accept(long[] array, int off, int len) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (off < 0 || len < 0 || off > array.length - len) {
+            throw new IllegalArgumentException("Invalid range off=" + off + ", len=" + len + " for length " + array.length);
+        }
+        if (len == 0) {
+            return;
+        }
+        int from = off;
+        int to = off + len;
+        if (count == 0) {
+            accept(array[from++]);
+        }
+
+        // work on locals, write back once
+        long i = startOffset + count;
+        long total = this.total;
+        long prefixSum = this.prefixSum;
+        long prefixEnd = this.prefixEnd;
+        long minBefore = this.minBefore;
+        long suffixStart = this.suffixStart;
+        long maxEnding = this.maxEnding;
+        long temporaryStart = this.temporaryStart;
+        long maxSoFar = this.maxSoFar;
+        long start = this.start;
+        long end = this.end;
+
+        for (int k = from; k < to; k++, i++) {
+            long value = array[k];
+            if (total < minBefore) {
+                minBefore = total;
+                suffixStart = i;
+            }
+            total += value;
+            if (total > prefixSum) {
+                prefixSum = total;
+                prefixEnd = i;
+            }
+            long sum = value + maxEnding;
+            if (value > sum) {
+                maxEnding = value;
+                temporaryStart = i;
+            } else {
+                maxEnding = sum;
+            }
+            if (maxEnding > maxSoFar) {
+                maxSoFar = maxEnding;
+                start = temporaryStart;
+                end = i;
+            }
+        }
+
+        this.count += to - from;
+        this.total = total;
+        this.prefixSum = prefixSum;
+        this.prefixEnd = prefixEnd;
+        this.minBefore = minBefore;
+        this.suffixStart = suffixStart;
+        this.maxEnding = maxEnding;
+        this.temporaryStart = temporaryStart;
+        this.maxSoFar = maxSoFar;
+        this.start = start;
+        this.end = end;
+    }
+
+    public void accept(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        accept(array, 0, array.length);
+    }
+
+    // consumes all remaining values of the buffer (position is advanced to limit);
+    // direct and mapped buffers are bulk-copied block by block into a scratch array
+    public void accept(LongBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (buffer.hasArray()) {
+            int len = buffer.remaining();
+            accept(buffer.array(), buffer.arrayOffset() + buffer.position(), len);
+            buffer.position(buffer.limit());
+            return;
+        }
+        if (block == null) {
+            block = new long[BLOCK];
+        }
+        while (buffer.hasRemaining()) {
+            int len = Math.min(BLOCK, buffer.remaining());
+            buffer.get(block, 0, len);
+            accept(block, 0, len);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long startOffset() {
+        return startOffset;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public long getMaxSum() {
+        return count == 0 ? 0L : maxSoFar;
+    }
+
+    public long getStartIndex() {
+        return count == 0 ? -1L : start;
+    }
+
+    public long getEndIndex() {
+        return count == 0 ? -1L : end;
+    }
+
+    public LongKadaneResult result() {
+        return new LongKadaneResult(getMaxSum(), getStartIndex(), getEndIndex());
+    }
+
+    // int-indexed view; throws ArithmeticException once offsets pass Integer.MAX_VALUE
+    public KadaneResult toKadaneResult() {
+        return result().toKadaneResult();
+    }
+
+    public KadaneSummary summary() {
+        if (count == 0) {
+            return KadaneSummary.empty(startOffset);
+        }
+        return new KadaneSummary(startOffset, count, total,
+                prefixSum, prefixEnd,
+                total - minBefore, suffixStart,
+                maxSoFar, start, end);
+    }
+
+    public void reset() {
+        count = 0;
+        total = prefixSum = minBefore = maxEnding = maxSoFar = 0;
+        prefixEnd = suffixStart = temporaryStart = start = end = -1;
+    }
+}
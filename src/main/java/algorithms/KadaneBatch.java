@@ -0,0 +1,145 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+  Batch Kadane over many short series packed into one buffer (CSR layout).
+  - values: all series back to back.
+  - offsets: seriesCount + 1 entries; series s is values[offsets[s] .. offsets[s + 1]).
+  - results go into caller-supplied arrays: sums[s], starts[s], ends[s], with indices
+    relative to the series start, exactly as Kadane.run would report for that series
+    (an empty series yields 0, -1, -1).
+  No objects are allocated per series. runParallel splits the work by series ranges.
+*/
+public final class KadaneBatch {
+    // series per fork/join leaf
+    public static final int DEFAULT_SERIES_THRESHOLD = 1024;
+
+    private KadaneBatch() {
+    }
+
+    public static void run(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends) {
+        int seriesCount = validate(values, offsets, sums, starts, ends);
+        runRange(values, offsets, sums, starts, ends, 0, seriesCount);
+    }
+
+    public static void runParallel(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends,
+                                   ForkJoinPool pool) {
+        runParallel(values, offsets, sums, starts, ends, pool, DEFAULT_SERIES_THRESHOLD);
+    }
+
+    public static void runParallel(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends,
+                                   ForkJoinPool pool, int seriesThreshold) {
+        int seriesCount = validate(values, offsets, sums, starts, ends);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        if (seriesThreshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        if (seriesCount <= seriesThreshold) {
+            runRange(values, offsets, sums, starts, ends, 0, seriesCount);
+            return;
+        }
+        pool.invoke(new SeriesTask(values, offsets, sums, starts, ends, 0, seriesCount, seriesThreshold));
+    }
+
+    // processes series [fromSeries, toSeries)
+    static void runRange(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends,
+                         int fromSeries, int toSeries) {
+        for (int s = fromSeries; s < toSeries; s++) {
+            int from = offsets[s];
+            int to = offsets[s + 1];
+            if (from == to) {
+                sums[s] = 0L;
+                starts[s] = -1;
+                ends[s] = -1;
+                continue;
+            }
+            long maxEnding = values[from];
+            long maxSoFar = maxEnding;
+            int temporaryStart = from;
+            int start = from;
+            int end = from;
+            for (int i = from + 1; i < to; i++) {
+                long current = values[i];
+                long sum = current + maxEnding;
+                if (current > sum) {
+                    maxEnding = current;
+                    temporaryStart = i;
+                } else {
+                    maxEnding = sum;
+                }
+                if (maxEnding > maxSoFar) {
+                    maxSoFar = maxEnding;
+                    start = temporaryStart;
+                    end = i;
+                }
+            }
+            sums[s] = maxSoFar;
+            starts[s] = start - from;
+            ends[s] = end - from;
+        }
+    }
+
+    // returns the number of series
+    private static int validate(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends) {
+        if (values == null || offsets == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (sums == null || starts == null || ends == null) {
+            throw new IllegalArgumentException("Output arrays must not be null");
+        }
+        if (offsets.length == 0) {
+            throw new IllegalArgumentException("Offsets must contain at least one entry");
+        }
+        int seriesCount = offsets.length - 1;
+        if (sums.length < seriesCount || starts.length < seriesCount || ends.length < seriesCount) {
+            throw new IllegalArgumentException("Output arrays must hold " + seriesCount + " entries");
+        }
+        if (offsets[0] < 0 || offsets[seriesCount] > values.length) {
+            throw new IllegalArgumentException("Offsets must lie within the values buffer");
+        }
+        for (int s = 0; s < seriesCount; s++) {
+            if (offsets[s] > offsets[s + 1]) {
+                throw new IllegalArgumentException("Offsets must be non-decreasing (series " + s + ")");
+            }
+        }
+        return seriesCount;
+    }
+
+    private static final class SeriesTask extends RecursiveAction {
+        private final long[] values;
+        private final int[] offsets;
+        private final long[] sums;
+        private final int[] starts;
+        private final int[] ends;
+        private final int fromSeries;
+        private final int toSeries;
+        private final int threshold;
+
+        SeriesTask(long[] values, int[] offsets, long[] sums, int[] starts, int[] ends,
+                   int fromSeries, int toSeries, int threshold) {
+            this.values = values;
+            this.offsets = offsets;
+            this.sums = sums;
+            this.starts = starts;
+            this.ends = ends;
+            this.fromSeries = fromSeries;
+            this.toSeries = toSeries;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSeries - fromSeries <= threshold) {
+                runRange(values, offsets, sums, starts, ends, fromSeries, toSeries);
+                return;
+            }
+            int mid = (fromSeries + toSeries) >>> 1;
+            invokeAll(new SeriesTask(values, offsets, sums, starts, ends, fromSeries, mid, threshold),
+                    new SeriesTask(values, offsets, sums, starts, ends, mid, toSeries, threshold));
+        }
+    }
+}
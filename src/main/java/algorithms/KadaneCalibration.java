@@ -0,0 +1,280 @@
+package algorithms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/*
+  Machine-specific dispatch table for Kadane.runAuto.
+  measure() micro-benchmarks the engines on generated arrays (best of ROUNDS timed rounds after warm-up):
+    - for each sign profile the fastest sequential engine on CALIBRATION_LENGTH elements;
+      PREDICTABLE: (almost) all one sign, MIXED: about half positive, BIASED: in between;
+    - vectorMinLength: smallest tested length at which KadaneVector beats Kadane.run on a profile
+      it won, shorter arrays fall back to SEQUENTIAL (NEVER when the vector module is not loaded);
+    - parallelThreshold: smallest tested length at which runParallel beats the fastest
+      sequential engine (NEVER on a single core).
+  choose(array) costs one length check and at most SIGN_SAMPLE evenly spaced sign reads.
+  save/load keep the table in a properties file; loadOrMeasure measures again when the file is
+  missing, invalid, or was written for another core count or with the vector module loaded.
+*/
+public record KadaneCalibration(int cores, int vectorMinLength, int parallelThreshold,
+                                KadaneEngine predictable, KadaneEngine mixed, KadaneEngine biased) {
+    public static final int NEVER = Integer.MAX_VALUE;
+    // system property naming the calibration file used by getDefault()
+    public static final String FILE_PROPERTY = "kadane.calibration";
+    static final int SIGN_SAMPLE = 64;
+    static final int CALIBRATION_LENGTH = 1 << 16;
+    private static final int MIN_VECTOR_PROBE = 16;
+    private static final int MAX_PARALLEL_PROBE = 1 << 22;
+    private static final int WARMUP_CALLS = 20;
+    private static final int ROUNDS = 5;
+    private static final int VERSION = 1;
+
+    private static KadaneCalibration defaultCalibration;
+    // keeps timed results alive
+    private static volatile long sink;
+
+    public enum SignProfile { PREDICTABLE, MIXED, BIASED }
+
+    public KadaneCalibration {
+        if (cores <= 0) {
+            throw new IllegalArgumentException("Cores must be positive");
+        }
+        if (vectorMinLength <= 0 || parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Thresholds must be positive");
+        }
+        for (KadaneEngine engine : new KadaneEngine[]{predictable, mixed, biased}) {
+            if (engine == null || engine == KadaneEngine.PARALLEL) {
+                throw new IllegalArgumentException("Sign profiles need a sequential engine, got " + engine);
+            }
+        }
+    }
+
+    // measured once per JVM, through the file named by -Dkadane.calibration when it is set;
+    // the first caller pays for measure() under the class lock, so call it at startup (see Kadane.runAuto)
+    public static synchronized KadaneCalibration getDefault() {
+        if (defaultCalibration == null) {
+            String file = System.getProperty(FILE_PROPERTY);
+            try {
+                defaultCalibration = file == null ? measure() : loadOrMeasure(Path.of(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot save calibration to " + file, e);
+            }
+        }
+        return defaultCalibration;
+    }
+
+    public KadaneEngine choose(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (array.length >= parallelThreshold) {
+            return KadaneEngine.PARALLEL;
+        }
+        KadaneEngine engine = engineFor(profile(array));
+        if (engine == KadaneEngine.VECTOR && array.length < vectorMinLength) {
+            return KadaneEngine.SEQUENTIAL;
+        }
+        return engine;
+    }
+
+    public KadaneEngine engineFor(SignProfile profile) {
+        return switch (profile) {
+            case PREDICTABLE -> predictable;
+            case MIXED -> mixed;
+            case BIASED -> biased;
+        };
+    }
+
+    // sign class of up to SIGN_SAMPLE evenly spaced elements
+    public static SignProfile profile(long[] array) {
+        int n = array.length;
+        int samples = Math.min(n, SIGN_SAMPLE);
+        int positive = 0;
+        for (int k = 0; k < samples; k++) {
+            if (array[(int) ((long) k * n / samples)] > 0) {
+                positive++;
+            }
+        }
+        // at most 1/16 or at least 15/16 positive: restart and improve branches are well predicted
+        if (positive * 16 <= samples || positive * 16 >= samples * 15) {
+            return SignProfile.PREDICTABLE;
+        }
+        // positive fraction within 0.5 +- 0.2
+        if (Math.abs(2 * positive - samples) * 5 <= samples * 2) {
+            return SignProfile.MIXED;
+        }
+        return SignProfile.BIASED;
+    }
+
+    public static boolean vectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    public static KadaneCalibration measure() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        boolean vector = vectorAvailable();
+        KadaneEngine[] candidates = vector
+                ? new KadaneEngine[]{KadaneEngine.SEQUENTIAL, KadaneEngine.BRANCHLESS, KadaneEngine.VECTOR}
+                : new KadaneEngine[]{KadaneEngine.SEQUENTIAL, KadaneEngine.BRANCHLESS};
+        SplittableRandom random = new SplittableRandom(42);
+        long[][] profiles = {
+                signs(random, CALIBRATION_LENGTH, 1.0),
+                signs(random, CALIBRATION_LENGTH, 0.5),
+                signs(random, CALIBRATION_LENGTH, 0.85)
+        };
+
+        // every engine is compiled on every profile before anything is timed
+        for (long[] array : profiles) {
+            for (KadaneEngine engine : candidates) {
+                time(engine, array, WARMUP_CALLS);
+            }
+        }
+        KadaneEngine[] fastest = new KadaneEngine[profiles.length];
+        for (int p = 0; p < profiles.length; p++) {
+            fastest[p] = fastest(candidates, profiles[p]);
+        }
+
+        int vectorMinLength = NEVER;
+        if (vector) {
+            vectorMinLength = CALIBRATION_LENGTH;
+            // probed on the first profile the vector engine won, if any
+            int p = Arrays.asList(fastest).indexOf(KadaneEngine.VECTOR);
+            for (int n = MIN_VECTOR_PROBE; p >= 0 && n < CALIBRATION_LENGTH; n <<= 1) {
+                long[] prefix = Arrays.copyOf(profiles[p], n);
+                if (time(KadaneEngine.VECTOR, prefix, ROUNDS) < time(KadaneEngine.SEQUENTIAL, prefix, ROUNDS)) {
+                    vectorMinLength = n;
+                    break;
+                }
+            }
+        }
+
+        int parallelThreshold = NEVER;
+        if (cores > 1) {
+            KadaneEngine sequential = fastest[SignProfile.MIXED.ordinal()];
+            for (int n = CALIBRATION_LENGTH << 1; n <= MAX_PARALLEL_PROBE; n <<= 1) {
+                long[] array = signs(random, n, 0.5);
+                time(KadaneEngine.PARALLEL, array, 2);
+                if (time(KadaneEngine.PARALLEL, array, ROUNDS) < time(sequential, array, ROUNDS)) {
+                    parallelThreshold = n;
+                    break;
+                }
+            }
+        }
+        return new KadaneCalibration(cores, vectorMinLength, parallelThreshold, fastest[0], fastest[1], fastest[2]);
+    }
+
+    // the file is used when it matches this machine, otherwise it is measured and rewritten
+    public static KadaneCalibration loadOrMeasure(Path file) throws IOException {
+        if (Files.isRegularFile(file)) {
+            try {
+                KadaneCalibration stored = load(file);
+                if (stored.matchesThisMachine()) {
+                    return stored;
+                }
+            } catch (IOException e) {
+                // invalid file, replaced below
+            }
+        }
+        KadaneCalibration measured = measure();
+        measured.save(file);
+        return measured;
+    }
+
+    public static KadaneCalibration load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        try {
+            if (Integer.parseInt(properties.getProperty("version")) != VERSION) {
+                throw new IOException("Unsupported calibration version in " + file);
+            }
+            return new KadaneCalibration(
+                    Integer.parseInt(properties.getProperty("cores")),
+                    Integer.parseInt(properties.getProperty("vectorMinLength")),
+                    Integer.parseInt(properties.getProperty("parallelThreshold")),
+                    KadaneEngine.valueOf(properties.getProperty("predictable")),
+                    KadaneEngine.valueOf(properties.getProperty("mixed")),
+                    KadaneEngine.valueOf(properties.getProperty("biased")));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Invalid calibration file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // written to a temporary file and moved into place, concurrent JVMs never read a partial file
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("version", Integer.toString(VERSION));
+        properties.setProperty("cores", Integer.toString(cores));
+        properties.setProperty("vectorMinLength", Integer.toString(vectorMinLength));
+        properties.setProperty("parallelThreshold", Integer.toString(parallelThreshold));
+        properties.setProperty("predictable", predictable.name());
+        properties.setProperty("mixed", mixed.name());
+        properties.setProperty("biased", biased.name());
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, "Kadane.runAuto calibration");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public boolean matchesThisMachine() {
+        boolean usesVector = predictable == KadaneEngine.VECTOR || mixed == KadaneEngine.VECTOR
+                || biased == KadaneEngine.VECTOR || vectorMinLength != NEVER;
+        return cores == Runtime.getRuntime().availableProcessors() && usesVector == vectorAvailable();
+    }
+
+    private static KadaneEngine fastest(KadaneEngine[] candidates, long[] array) {
+        KadaneEngine best = candidates[0];
+        long bestNs = time(best, array, ROUNDS);
+        for (int c = 1; c < candidates.length; c++) {
+            long ns = time(candidates[c], array, ROUNDS);
+            if (ns < bestNs) {
+                best = candidates[c];
+                bestNs = ns;
+            }
+        }
+        return best;
+    }
+
+    // best nanoseconds per call over the rounds; short arrays are repeated to about CALIBRATION_LENGTH elements per round
+    private static long time(KadaneEngine engine, long[] array, int rounds) {
+        int calls = Math.max(1, CALIBRATION_LENGTH / array.length);
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            for (int c = 0; c < calls; c++) {
+                checksum += Kadane.runWith(array, engine).maxSum();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / calls);
+        }
+        sink = checksum;
+        return best;
+    }
+
+    // magnitudes 1..1000, positive with probability positiveProbability
+    private static long[] signs(SplittableRandom random, int n, double positiveProbability) {
+        long[] array = new long[n];
+        for (int i = 0; i < n; i++) {
+            long magnitude = 1 + random.nextInt(1000);
+            array[i] = random.nextDouble() < positiveProbability ? magnitude : -magnitude;
+        }
+        return array;
+    }
+}
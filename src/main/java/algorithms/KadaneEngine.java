@@ -0,0 +1,16 @@
+package algorithms;
+
+/*
+  Engines Kadane.runAuto can dispatch to:
+    - SEQUENTIAL: Kadane.run
+    - BRANCHLESS: Kadane.runBranchless
+    - VECTOR: KadaneVector.run (needs the jdk.incubator.vector module)
+    - PARALLEL: Kadane.runParallel on the common pool
+  All of them return the same KadaneResult when prefix sums do not overflow.
+*/
+public enum KadaneEngine {
+    SEQUENTIAL,
+    BRANCHLESS,
+    VECTOR,
+    PARALLEL
+}
@@ -0,0 +1,136 @@
+package algorithms;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+  Kadane over binary files of little-endian int64 values, larger than the heap.
+  - The file is mapped read-only in windows (FileChannel.map); KadaneAccumulator bulk-copies
+    each window through a small reused block, the file is never loaded into one long[].
+  - run(path) scans windows in order with one KadaneAccumulator.
+  - runParallel(path, pool) splits the file into window-sized ranges on a ForkJoinPool
+    and merges their KadaneSummary values.
+  Results carry long offsets (element indices), so files above 2^31 elements work.
+*/
+public final class KadaneFileEngine {
+    // 64 MiB per mapping
+    public static final int DEFAULT_WINDOW_BYTES = 1 << 26;
+
+    private KadaneFileEngine() {
+    }
+
+    public static LongKadaneResult run(Path file) throws IOException {
+        return run(file, DEFAULT_WINDOW_BYTES);
+    }
+
+    public static LongKadaneResult run(Path file, int windowBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long elements = elementCount(channel);
+            return summarize(channel, 0, elements, windowBytes).toLongKadaneResult();
+        }
+    }
+
+    public static LongKadaneResult runParallel(Path file, ForkJoinPool pool) throws IOException {
+        return runParallel(file, pool, DEFAULT_WINDOW_BYTES);
+    }
+
+    public static LongKadaneResult runParallel(Path file, ForkJoinPool pool, int windowBytes) throws IOException {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        int windowElements = windowElements(windowBytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long elements = elementCount(channel);
+            try {
+                return pool.invoke(new WindowTask(channel, 0, elements, windowElements)).toLongKadaneResult();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /*
+      Summarizes elements [fromElement, toElement) of an open channel window by window.
+      Offsets in the returned summary are element indices from the start of the file.
+    */
+    public static KadaneSummary summarize(FileChannel channel, long fromElement, long toElement, int windowBytes)
+            throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel is null");
+        }
+        if (fromElement < 0 || fromElement > toElement) {
+            throw new IllegalArgumentException("Invalid element range [" + fromElement + ", " + toElement + ")");
+        }
+        int windowElements = windowElements(windowBytes);
+        KadaneAccumulator acc = new KadaneAccumulator(fromElement);
+        for (long pos = fromElement; pos < toElement; pos += windowElements) {
+            int count = (int) Math.min(windowElements, toElement - pos);
+            acc.accept(map(channel, pos, count));
+        }
+        return acc.summary();
+    }
+
+    public static long elementCount(FileChannel channel) throws IOException {
+        long bytes = channel.size();
+        if (bytes % Long.BYTES != 0) {
+            throw new IllegalArgumentException("File size " + bytes + " is not a multiple of " + Long.BYTES + " bytes");
+        }
+        return bytes / Long.BYTES;
+    }
+
+    private static LongBuffer map(FileChannel channel, long element, int count) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, element * Long.BYTES, (long) count * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer();
+    }
+
+    private static int windowElements(int windowBytes) {
+        if (windowBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Window must hold at least one value (" + Long.BYTES + " bytes)");
+        }
+        return windowBytes / Long.BYTES;
+    }
+
+    // splits element ranges until one window is left, then maps and scans it
+    private static final class WindowTask extends RecursiveTask<KadaneSummary> {
+        private final FileChannel channel;
+        private final long from;
+        private final long to;
+        private final int windowElements;
+
+        WindowTask(FileChannel channel, long from, long to, int windowElements) {
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+            this.windowElements = windowElements;
+        }
+
+        @Override
+        protected KadaneSummary compute() {
+            if (to - from <= windowElements) {
+                KadaneAccumulator acc = new KadaneAccumulator(from);
+                try {
+                    acc.accept(map(channel, from, (int) (to - from)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return acc.summary();
+            }
+            // split on a window boundary so every leaf is one mapping
+            long windows = (to - from + windowElements - 1) / windowElements;
+            long mid = from + (windows / 2) * windowElements;
+            WindowTask left = new WindowTask(channel, from, mid, windowElements);
+            WindowTask right = new WindowTask(channel, mid, to, windowElements);
+            left.fork();
+            KadaneSummary rightSummary = right.compute();
+            return left.join().merge(rightSummary);
+        }
+    }
+}
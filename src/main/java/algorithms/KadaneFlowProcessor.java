@@ -0,0 +1,274 @@
+package algorithms;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+  Kadane as a java.util.concurrent.Flow stage: subscribes to long[] chunks, publishes LongKadaneResult.
+  Upstream:
+    - demand is requested in batches: batchSize chunks up front, another batchSize each time that
+      many have been consumed; onNext feeds the chunk into one KadaneAccumulator and does not keep it,
+      so the producer may reuse its array.
+    - demand never depends on the subscribers, a slow or idle consumer does not stall the producer.
+  Downstream:
+    - a result (global long offsets) is published only when the best subarray changes.
+    - results are conflated: each subscriber holds at most one pending result, a newer one replaces it,
+      so a slow subscriber skips to the latest best instead of building a backlog.
+    - signals are delivered on the executor (default ForkJoinPool.commonPool()), never on the
+      producer's thread; a new subscriber first receives the current best, if any.
+    - onComplete follows the last pending result (delivered once requested); onError is forwarded at once.
+    - a subscriber that throws from onSubscribe/onNext is cancelled and gets no further signals.
+  The terminal transition (onComplete, onError, cancel) is one CAS on `terminal`, so cancel() from any
+  thread ends the subscribers exactly once, with one outcome, even while upstream signals are in flight.
+  Flow signals with null arguments throw NullPointerException, as the Flow contract requires.
+*/
+public final class KadaneFlowProcessor implements Flow.Processor<long[], LongKadaneResult> {
+    public static final int DEFAULT_BATCH_SIZE = 16;
+    private static final Throwable COMPLETED = new Throwable("completed");
+
+    private final int batchSize;
+    private final Executor executor;
+    private final KadaneAccumulator accumulator = new KadaneAccumulator();
+    private final CopyOnWriteArrayList<ResultSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+    // written by the producer's thread, read by subscribe() and the getters
+    private volatile LongKadaneResult latest = null;
+    private volatile long chunks = 0;
+    // null while running, then COMPLETED or the upstream failure
+    private final AtomicReference<Throwable> terminal = new AtomicReference<>();
+    // chunks consumed since the last request
+    private int consumed = 0;
+
+    public KadaneFlowProcessor() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public KadaneFlowProcessor(int batchSize) {
+        this(batchSize, ForkJoinPool.commonPool());
+    }
+
+    public KadaneFlowProcessor(int batchSize, Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    // best subarray so far, null before the first value
+    public LongKadaneResult getResult() {
+        return latest;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public boolean isDone() {
+        return terminal.get() != null;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (!upstream.compareAndSet(null, subscription)) {
+            // one upstream only
+            subscription.cancel();
+            return;
+        }
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(long[] chunk) {
+        Objects.requireNonNull(chunk, "chunk");
+        if (terminal.get() != null) {
+            return;
+        }
+        LongKadaneResult previous = latest;
+        accumulator.accept(chunk, 0, chunk.length);
+        chunks++;
+        if (!accumulator.isEmpty() && (previous == null || accumulator.getMaxSum() != previous.maxSum()
+                || accumulator.getStartIndex() != previous.startIndex() || accumulator.getEndIndex() != previous.endIndex())) {
+            LongKadaneResult result = accumulator.result();
+            latest = result;
+            for (ResultSubscription subscription : subscriptions) {
+                subscription.offer(result);
+            }
+        }
+        if (++consumed == batchSize) {
+            consumed = 0;
+            upstream.get().request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable");
+        if (!terminal.compareAndSet(null, throwable)) {
+            return;
+        }
+        for (ResultSubscription subscription : subscriptions) {
+            subscription.terminate();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!terminal.compareAndSet(null, COMPLETED)) {
+            return;
+        }
+        for (ResultSubscription subscription : subscriptions) {
+            subscription.terminate();
+        }
+    }
+
+    // stops the upstream; subscribers are completed with the best result so far
+    public void cancel() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        onComplete();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super LongKadaneResult> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.start(latest);
+        if (terminal.get() != null) {
+            subscription.terminate();
+        }
+    }
+
+    /*
+      One subscriber: demand counter, at most one pending result and a work-in-progress counter,
+      so only one executor task at a time delivers its signals, in order.
+    */
+    private final class ResultSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super LongKadaneResult> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicReference<LongKadaneResult> pending = new AtomicReference<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean started = false;
+        private volatile boolean terminated = false;
+        private volatile boolean cancelled = false;
+        private volatile Throwable requestError = null;
+        // touched only by the draining task
+        private boolean subscribedSignalled = false;
+        private boolean finished = false;
+
+        ResultSubscription(Flow.Subscriber<? super LongKadaneResult> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start(LongKadaneResult current) {
+            if (current != null) {
+                pending.compareAndSet(null, current);
+            }
+            started = true;
+            signal();
+        }
+
+        void offer(LongKadaneResult result) {
+            pending.set(result);
+            signal();
+        }
+
+        void terminate() {
+            terminated = true;
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Request must be positive: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (started && !finished) {
+                    try {
+                        drainOnce();
+                    } catch (RuntimeException e) {
+                        // Flow §2.13: a throwing subscriber is cancelled, wip is still released below
+                        cancelled = true;
+                        finish();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (cancelled) {
+                finished = true;
+                return;
+            }
+            if (!subscribedSignalled) {
+                subscribedSignalled = true;
+                subscriber.onSubscribe(this);
+            }
+            if (requestError != null) {
+                finish();
+                subscriber.onError(requestError);
+                return;
+            }
+            Throwable outcome = terminal.get();
+            if (terminated && outcome != COMPLETED) {
+                finish();
+                subscriber.onError(outcome);
+                return;
+            }
+            while (!cancelled && demand.get() > 0) {
+                LongKadaneResult result = pending.getAndSet(null);
+                if (result == null) {
+                    break;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(result);
+            }
+            if (terminated && !cancelled && pending.get() == null) {
+                finish();
+                subscriber.onComplete();
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            subscriptions.remove(this);
+        }
+    }
+}
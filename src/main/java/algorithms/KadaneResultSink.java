@@ -0,0 +1,11 @@
+package algorithms;
+
+/*
+  Receiver for a Kadane result as primitives, used by Kadane.runInto so that tight
+  call loops do not allocate a KadaneResult per call.
+  For an empty input the sink receives (0, -1, -1), like Kadane.run.
+*/
+@FunctionalInterface
+public interface KadaneResultSink {
+    void onResult(long maxSum, int startIndex, int endIndex);
+}
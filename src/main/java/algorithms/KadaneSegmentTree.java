@@ -0,0 +1,185 @@
+package algorithms;
+
+/*
+  Dynamic index for maximum-subarray queries under point updates.
+  - Iterative bottom-up segment tree: leaves live at [n, 2n), node i combines 2i and 2i+1.
+  - Every node is a segment summary (total, best prefix, best suffix, best inner with indices)
+    stored column-wise in flat primitive arrays; there are no node objects.
+  - update(i, value) and query(from, to) are O(log n); query returns the same KadaneResult
+    (including tie-breaking) as Kadane.run on the copied range, with indices into the full array.
+  Slots 0 and 2n are scratch space for queries, so one instance must not be used by
+  several threads at the same time.
+*/
+public final class KadaneSegmentTree {
+    private static final int EMPTY = -1;
+
+    private final int n;
+    private final int leftScratch;
+    private final int rightScratch;
+
+    private final long[] total;
+    private final long[] prefixSum;
+    private final long[] suffixSum;
+    private final long[] bestSum;
+    private final int[] prefixEnd;   // EMPTY marks an empty segment
+    private final int[] suffixStart;
+    private final int[] bestStart;
+    private final int[] bestEnd;
+
+    public KadaneSegmentTree(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (array.length > (Integer.MAX_VALUE - 1) / 2) {
+            throw new IllegalArgumentException("Array is too large for an int-indexed tree: " + array.length);
+        }
+        n = array.length;
+        leftScratch = 0;
+        rightScratch = 2 * n;
+        int slots = 2 * n + 1;
+        total = new long[slots];
+        prefixSum = new long[slots];
+        suffixSum = new long[slots];
+        bestSum = new long[slots];
+        prefixEnd = new int[slots];
+        suffixStart = new int[slots];
+        bestStart = new int[slots];
+        bestEnd = new int[slots];
+
+        for (int i = 0; i < n; i++) {
+            setLeaf(n + i, i, array[i]);
+        }
+        for (int node = n - 1; node >= 1; node--) {
+            combine(node, 2 * node, 2 * node + 1);
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return total[n + index];
+    }
+
+    public void update(int index, long value) {
+        checkIndex(index);
+        int node = n + index;
+        setLeaf(node, index, value);
+        for (node >>= 1; node >= 1; node >>= 1) {
+            combine(node, 2 * node, 2 * node + 1);
+        }
+    }
+
+    public KadaneResult query() {
+        return query(0, n);
+    }
+
+    // best subarray inside [from, to); indices in the result refer to the full array
+    public KadaneResult query(int from, int to) {
+        if (from < 0 || to > n || from > to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") for size " + n);
+        }
+        if (from == to) {
+            return new KadaneResult(0L, -1, -1);
+        }
+        prefixEnd[leftScratch] = EMPTY;
+        prefixEnd[rightScratch] = EMPTY;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                combine(leftScratch, leftScratch, l++);
+            }
+            if ((r & 1) == 1) {
+                combine(rightScratch, --r, rightScratch);
+            }
+        }
+        combine(leftScratch, leftScratch, rightScratch);
+        return new KadaneResult(bestSum[leftScratch], bestStart[leftScratch], bestEnd[leftScratch]);
+    }
+
+    private void setLeaf(int node, int index, long value) {
+        total[node] = value;
+        prefixSum[node] = value;
+        suffixSum[node] = value;
+        bestSum[node] = value;
+        prefixEnd[node] = index;
+        suffixStart[node] = index;
+        bestStart[node] = index;
+        bestEnd[node] = index;
+    }
+
+    // dst = a followed by b; dst may alias a or b. Same tie rules as KadaneSummary.merge
+    private void combine(int dst, int a, int b) {
+        if (prefixEnd[a] == EMPTY) {
+            copy(dst, b);
+            return;
+        }
+        if (prefixEnd[b] == EMPTY) {
+            copy(dst, a);
+            return;
+        }
+
+        long newTotal = total[a] + total[b];
+
+        long newPrefixSum = prefixSum[a];
+        int newPrefixEnd = prefixEnd[a];
+        long extendedPrefix = total[a] + prefixSum[b];
+        if (extendedPrefix > newPrefixSum) {
+            newPrefixSum = extendedPrefix;
+            newPrefixEnd = prefixEnd[b];
+        }
+
+        long newSuffixSum = suffixSum[b];
+        int newSuffixStart = suffixStart[b];
+        long extendedSuffix = suffixSum[a] + total[b];
+        if (extendedSuffix >= newSuffixSum) {
+            newSuffixSum = extendedSuffix;
+            newSuffixStart = suffixStart[a];
+        }
+
+        long newBestSum = bestSum[a];
+        int newBestStart = bestStart[a];
+        int newBestEnd = bestEnd[a];
+        long crossingSum = suffixSum[a] + prefixSum[b];
+        if (KadaneSummary.isBetter(crossingSum, suffixStart[a], prefixEnd[b], newBestSum, newBestStart, newBestEnd)) {
+            newBestSum = crossingSum;
+            newBestStart = suffixStart[a];
+            newBestEnd = prefixEnd[b];
+        }
+        if (KadaneSummary.isBetter(bestSum[b], bestStart[b], bestEnd[b], newBestSum, newBestStart, newBestEnd)) {
+            newBestSum = bestSum[b];
+            newBestStart = bestStart[b];
+            newBestEnd = bestEnd[b];
+        }
+
+        total[dst] = newTotal;
+        prefixSum[dst] = newPrefixSum;
+        prefixEnd[dst] = newPrefixEnd;
+        suffixSum[dst] = newSuffixSum;
+        suffixStart[dst] = newSuffixStart;
+        bestSum[dst] = newBestSum;
+        bestStart[dst] = newBestStart;
+        bestEnd[dst] = newBestEnd;
+    }
+
+    private void copy(int dst, int src) {
+        if (dst == src) {
+            return;
+        }
+        total[dst] = total[src];
+        prefixSum[dst] = prefixSum[src];
+        prefixEnd[dst] = prefixEnd[src];
+        suffixSum[dst] = suffixSum[src];
+        suffixStart[dst] = suffixStart[src];
+        bestSum[dst] = bestSum[src];
+        bestStart[dst] = bestStart[src];
+        bestEnd[dst] = bestEnd[src];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= n) {
+            throw new IllegalArgumentException("Index " + index + " out of range for size " + n);
+        }
+    }
+}
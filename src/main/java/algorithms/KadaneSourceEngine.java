@@ -0,0 +1,110 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+  Kadane over a LongSource (e.g. a virtual dataset from DataGenerator.virtual) that is never
+  materialized: values are read block by block into one reused long[] and streamed through a
+  KadaneAccumulator.
+  - run(source) scans the whole source on the calling thread.
+  - runParallel(source, pool) splits the index range on block boundaries, summarizes each leaf
+    range on its own and merges the KadaneSummary values.
+  Memory is one block per running task, independent of the source size; results carry long offsets.
+*/
+public final class KadaneSourceEngine {
+    // values per read; 128 KiB stays in L2
+    public static final int DEFAULT_BLOCK = 1 << 14;
+    // values per fork/join leaf (rounded up to whole blocks)
+    static final long TASK_ELEMENTS = 1L << 22;
+
+    private KadaneSourceEngine() {
+    }
+
+    public static LongKadaneResult run(LongSource source) {
+        return run(source, DEFAULT_BLOCK);
+    }
+
+    public static LongKadaneResult run(LongSource source, int blockSize) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source is null");
+        }
+        return summarize(source, 0, source.size(), blockSize).toLongKadaneResult();
+    }
+
+    public static LongKadaneResult runParallel(LongSource source, ForkJoinPool pool) {
+        return runParallel(source, pool, DEFAULT_BLOCK);
+    }
+
+    public static LongKadaneResult runParallel(LongSource source, ForkJoinPool pool, int blockSize) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source is null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        checkBlockSize(blockSize);
+        long leafElements = Math.max(blockSize, TASK_ELEMENTS / blockSize * blockSize);
+        return pool.invoke(new RangeTask(source, 0, source.size(), blockSize, leafElements)).toLongKadaneResult();
+    }
+
+    /*
+      Summarizes values [fromIndex, toIndex) of the source block by block.
+      Offsets in the returned summary are indices into the source.
+    */
+    public static KadaneSummary summarize(LongSource source, long fromIndex, long toIndex, int blockSize) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source is null");
+        }
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > source.size()) {
+            throw new IllegalArgumentException("Invalid index range [" + fromIndex + ", " + toIndex + ") for "
+                    + source.size() + " values");
+        }
+        checkBlockSize(blockSize);
+        long[] block = new long[(int) Math.min(blockSize, toIndex - fromIndex)];
+        KadaneAccumulator acc = new KadaneAccumulator(fromIndex);
+        for (long pos = fromIndex; pos < toIndex; pos += blockSize) {
+            int count = (int) Math.min(blockSize, toIndex - pos);
+            source.read(pos, block, 0, count);
+            acc.accept(block, 0, count);
+        }
+        return acc.summary();
+    }
+
+    private static void checkBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+    }
+
+    // splits index ranges on block boundaries until one leaf is left, then summarizes it
+    private static final class RangeTask extends RecursiveTask<KadaneSummary> {
+        private final LongSource source;
+        private final long from;
+        private final long to;
+        private final int blockSize;
+        private final long leafElements;
+
+        RangeTask(LongSource source, long from, long to, int blockSize, long leafElements) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.blockSize = blockSize;
+            this.leafElements = leafElements;
+        }
+
+        @Override
+        protected KadaneSummary compute() {
+            if (to - from <= leafElements) {
+                return summarize(source, from, to, blockSize);
+            }
+            long blocks = (to - from + blockSize - 1) / blockSize;
+            long mid = from + (blocks / 2) * blockSize;
+            RangeTask left = new RangeTask(source, from, mid, blockSize, leafElements);
+            RangeTask right = new RangeTask(source, mid, to, blockSize, leafElements);
+            left.fork();
+            KadaneSummary rightSummary = right.compute();
+            return left.join().merge(rightSummary);
+        }
+    }
+}
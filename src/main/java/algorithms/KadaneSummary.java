@@ -0,0 +1,190 @@
+package algorithms;
+
+/*
+  Mergeable summary of one contiguous segment [offset, offset + length) for Kadane's algorithm.
+  - total: sum of the whole segment.
+  - prefixSum, prefixEnd: best non-empty prefix (earliest end on ties).
+  - suffixSum, suffixStart: best non-empty suffix (earliest start on ties).
+  - bestSum, bestStart, bestEnd: best non-empty subarray, earliest end then earliest start on ties,
+    which is exactly the tie-breaking of the sequential loop in Kadane.run.
+  All positions are absolute long offsets, so summaries of chunks taken from files or streams
+  beyond 2^31 elements merge the same way. An empty summary (length == 0) is the merge identity.
+*/
+public record KadaneSummary(long offset,
+                            long length,
+                            long total,
+                            long prefixSum,
+                            long prefixEnd,
+                            long suffixSum,
+                            long suffixStart,
+                            long bestSum,
+                            long bestStart,
+                            long bestEnd) {
+
+    public static KadaneSummary empty(long offset) {
+        return new KadaneSummary(offset, 0L, 0L, 0L, -1L, 0L, -1L, 0L, -1L, -1L);
+    }
+
+    public static KadaneSummary of(long[] array, int from, int to) {
+        return of(array, from, to, from);
+    }
+
+    // offset is the absolute position of array[from]
+    public static KadaneSummary of(long[] array, int from, int to, long offset) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (from < 0 || to > array.length || from > to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") for length " + array.length);
+        }
+        if (from == to) {
+            return empty(offset);
+        }
+
+        long first = array[from];
+        long running = first;
+        long prefixSum = first;
+        int prefixEnd = from;
+        // smallest prefix sum strictly before position i, used for the best suffix
+        long minBefore = 0;
+        int suffixStart = from;
+
+        long maxEnding = first;
+        long maxSoFar = first;
+        int temporaryStart = from;
+        int start = from;
+        int end = from;
+
+        for (int i = from + 1; i < to; i++) {
+            long current = array[i];
+            if (running < minBefore) {
+                minBefore = running;
+                suffixStart = i;
+            }
+            running += current;
+            if (running > prefixSum) {
+                prefixSum = running;
+                prefixEnd = i;
+            }
+
+            long sum = current + maxEnding;
+            if (current > sum) {
+                maxEnding = current;
+                temporaryStart = i;
+            } else {
+                maxEnding = sum;
+            }
+            if (maxEnding > maxSoFar) {
+                maxSoFar = maxEnding;
+                start = temporaryStart;
+                end = i;
+            }
+        }
+
+        long shift = offset - from;
+        return new KadaneSummary(offset, to - from, running,
+                prefixSum, prefixEnd + shift,
+                running - minBefore, suffixStart + shift,
+                maxSoFar, start + shift, end + shift);
+    }
+
+    // merges this summary with the segment that immediately follows it
+    public KadaneSummary merge(KadaneSummary right) {
+        if (right == null) {
+            throw new IllegalArgumentException("Right summary is null");
+        }
+        if (right.offset != offset + length) {
+            throw new IllegalArgumentException("Segments are not adjacent: [" + offset + ", " + (offset + length)
+                    + ") and [" + right.offset + ", " + (right.offset + right.length) + ")");
+        }
+        if (length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return this;
+        }
+
+        // prefix: keep the left one on ties (earlier end)
+        long newPrefixSum = prefixSum;
+        long newPrefixEnd = prefixEnd;
+        long extendedPrefix = total + right.prefixSum;
+        if (extendedPrefix > newPrefixSum) {
+            newPrefixSum = extendedPrefix;
+            newPrefixEnd = right.prefixEnd;
+        }
+
+        // suffix: prefer the one reaching into the left segment on ties (earlier start)
+        long newSuffixSum = right.suffixSum;
+        long newSuffixStart = right.suffixStart;
+        long extendedSuffix = suffixSum + right.total;
+        if (extendedSuffix >= newSuffixSum) {
+            newSuffixSum = extendedSuffix;
+            newSuffixStart = suffixStart;
+        }
+
+        long newBestSum = bestSum;
+        long newBestStart = bestStart;
+        long newBestEnd = bestEnd;
+        long crossingSum = suffixSum + right.prefixSum;
+        if (isBetter(crossingSum, suffixStart, right.prefixEnd, newBestSum, newBestStart, newBestEnd)) {
+            newBestSum = crossingSum;
+            newBestStart = suffixStart;
+            newBestEnd = right.prefixEnd;
+        }
+        if (isBetter(right.bestSum, right.bestStart, right.bestEnd, newBestSum, newBestStart, newBestEnd)) {
+            newBestSum = right.bestSum;
+            newBestStart = right.bestStart;
+            newBestEnd = right.bestEnd;
+        }
+
+        return new KadaneSummary(offset, length + right.length, total + right.total,
+                newPrefixSum, newPrefixEnd,
+                newSuffixSum, newSuffixStart,
+                newBestSum, newBestStart, newBestEnd);
+    }
+
+    // the same segment moved to start at newOffset; every position shifts by the same amount
+    public KadaneSummary withOffset(long newOffset) {
+        if (newOffset < 0) {
+            throw new IllegalArgumentException("Offset must be non-negative");
+        }
+        if (length == 0) {
+            return empty(newOffset);
+        }
+        long shift = newOffset - offset;
+        return new KadaneSummary(newOffset, length, total,
+                prefixSum, prefixEnd + shift,
+                suffixSum, suffixStart + shift,
+                bestSum, bestStart + shift, bestEnd + shift);
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public LongKadaneResult toLongKadaneResult() {
+        if (length == 0) {
+            return new LongKadaneResult(0L, -1L, -1L);
+        }
+        return new LongKadaneResult(bestSum, bestStart, bestEnd);
+    }
+
+    // converts the best subarray to the int-indexed result used by Kadane.run
+    public KadaneResult toKadaneResult() {
+        if (length == 0) {
+            return new KadaneResult(0L, -1, -1);
+        }
+        return new KadaneResult(bestSum, Math.toIntExact(bestStart), Math.toIntExact(bestEnd));
+    }
+
+    // larger sum wins; ties go to the earlier end, then to the earlier start
+    static boolean isBetter(long sum, long start, long end, long otherSum, long otherStart, long otherEnd) {
+        if (sum != otherSum) {
+            return sum > otherSum;
+        }
+        if (end != otherEnd) {
+            return end < otherEnd;
+        }
+        return start < otherStart;
+    }
+}
@@ -0,0 +1,35 @@
+package algorithms;
+
+import java.util.concurrent.RecursiveTask;
+
+/*
+  Fork/join task for the parallel Kadane engine.
+  Splits [from, to) in halves until a chunk is at most threshold elements long,
+  summarizes each chunk sequentially and merges the summaries left to right.
+*/
+final class KadaneSummaryTask extends RecursiveTask<KadaneSummary> {
+    private final long[] array;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    KadaneSummaryTask(long[] array, int from, int to, int threshold) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected KadaneSummary compute() {
+        if (to - from <= threshold) {
+            return KadaneSummary.of(array, from, to);
+        }
+        int mid = (from + to) >>> 1;
+        KadaneSummaryTask left = new KadaneSummaryTask(array, from, mid, threshold);
+        KadaneSummaryTask right = new KadaneSummaryTask(array, mid, to, threshold);
+        left.fork();
+        KadaneSummary rightSummary = right.compute();
+        return left.join().merge(rightSummary);
+    }
+}
@@ -0,0 +1,207 @@
+package algorithms;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+  Kadane over ASCII text files of signed decimal integers (one per line, comma-separated, ...).
+  - Values are separated by runs of ',', ' ', '\t', '\r', '\n'. A value is an optional '+' or '-'
+    and 1..19 digits within the long range; anything else is a NumberFormatException with its byte offset.
+  - Digits are parsed straight from read-only mappings into a reused long[] block that feeds a
+    KadaneAccumulator: no String and no per-value allocation.
+  - run(path) scans chunks in order with one accumulator; runParallel(path, pool) summarizes chunks
+    on a ForkJoinPool and merges the KadaneSummary values, each shifted by the values before it.
+  - A chunk owns the values whose first byte lies in it: it skips the tail of a value started in
+    the previous chunk and reads past its own end (mappings extend SLACK bytes) to finish its last one.
+  Results carry long offsets (value indices), so files with more than 2^31 values work.
+*/
+public final class KadaneTextEngine {
+    // 64 MiB per chunk and mapping
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 26;
+    // longest valid value is 20 bytes ("-9223372036854775808"), plus the byte after it
+    private static final int SLACK = 32;
+    private static final int MAX_DIGITS = 19;
+    private static final int BLOCK = 1 << 12;
+    private static final boolean[] SEPARATOR = new boolean[256];
+
+    static {
+        for (char c : new char[]{',', ' ', '\t', '\r', '\n'}) {
+            SEPARATOR[c] = true;
+        }
+    }
+
+    private KadaneTextEngine() {
+    }
+
+    public static LongKadaneResult run(Path file) throws IOException {
+        return run(file, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static LongKadaneResult run(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return summarize(channel, 0, channel.size(), chunkBytes).toLongKadaneResult();
+        }
+    }
+
+    public static LongKadaneResult runParallel(Path file, ForkJoinPool pool) throws IOException {
+        return runParallel(file, pool, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static LongKadaneResult runParallel(Path file, ForkJoinPool pool, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return summarize(channel, pool, chunkBytes).toLongKadaneResult();
+        }
+    }
+
+    // whole channel, chunks summarized on the pool; length of the result is the number of values
+    public static KadaneSummary summarize(FileChannel channel, ForkJoinPool pool, int chunkBytes) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel is null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        checkChunk(chunkBytes);
+        long size = channel.size();
+        try {
+            return pool.invoke(new ChunkTask(channel, size, 0, size, chunkBytes));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /*
+      Summarizes the values that start in bytes [fromByte, toByte) of an open channel, chunk by chunk.
+      Offsets in the returned summary count values from the first one in the range (offset 0),
+      its length is the number of values.
+    */
+    public static KadaneSummary summarize(FileChannel channel, long fromByte, long toByte, int chunkBytes)
+            throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel is null");
+        }
+        checkChunk(chunkBytes);
+        long size = channel.size();
+        if (fromByte < 0 || fromByte > toByte || toByte > size) {
+            throw new IllegalArgumentException("Invalid byte range [" + fromByte + ", " + toByte + ") for size " + size);
+        }
+        KadaneAccumulator acc = new KadaneAccumulator();
+        long[] block = new long[BLOCK];
+        for (long pos = fromByte; pos < toByte; pos += chunkBytes) {
+            scan(channel, size, pos, Math.min(toByte, pos + chunkBytes), acc, block);
+        }
+        return acc.summary();
+    }
+
+    // feeds acc with the values whose first byte lies in [from, to)
+    private static void scan(FileChannel channel, long fileSize, long from, long to,
+                             KadaneAccumulator acc, long[] block) throws IOException {
+        long mapStart = from == 0 ? 0 : from - 1;
+        long mapEnd = Math.min(fileSize, to + SLACK);
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+        int limit = (int) (mapEnd - mapStart);
+        int end = (int) (to - mapStart);
+        boolean truncated = mapEnd < fileSize;
+
+        int p = (int) (from - mapStart);
+        if (from > 0 && !SEPARATOR[window.get(p - 1) & 0xFF]) {
+            // the previous chunk owns (and validates) the value in progress
+            while (p < limit && !SEPARATOR[window.get(p) & 0xFF]) {
+                p++;
+            }
+        }
+
+        int n = 0;
+        while (p < end) {
+            byte b = window.get(p);
+            if (SEPARATOR[b & 0xFF]) {
+                p++;
+                continue;
+            }
+            int valueStart = p;
+            boolean negative = b == '-';
+            if (b == '-' || b == '+') {
+                p++;
+            }
+            int digitsStart = p;
+            long value = 0;
+            while (p < limit) {
+                int digit = window.get(p) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                p++;
+            }
+            int digits = p - digitsStart;
+            if (digits == 0 || digits > MAX_DIGITS || (p < limit && !SEPARATOR[window.get(p) & 0xFF])
+                    || (p == limit && truncated)) {
+                throw new NumberFormatException("Malformed value at byte " + (mapStart + valueStart));
+            }
+            if (value < 0) {
+                // 19 digits past Long.MAX_VALUE wrapped; only -9223372036854775808 is in range
+                if (!negative || value != Long.MIN_VALUE) {
+                    throw new NumberFormatException("Value out of long range at byte " + (mapStart + valueStart));
+                }
+            } else if (negative) {
+                value = -value;
+            }
+            block[n++] = value;
+            if (n == block.length) {
+                acc.accept(block, 0, n);
+                n = 0;
+            }
+        }
+        acc.accept(block, 0, n);
+    }
+
+    private static void checkChunk(int chunkBytes) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+    }
+
+    // splits byte ranges on chunk boundaries, leaves summarize one chunk; results are relative to the range
+    private static final class ChunkTask extends RecursiveTask<KadaneSummary> {
+        private final FileChannel channel;
+        private final long fileSize;
+        private final long from;
+        private final long to;
+        private final int chunkBytes;
+
+        ChunkTask(FileChannel channel, long fileSize, long from, long to, int chunkBytes) {
+            this.channel = channel;
+            this.fileSize = fileSize;
+            this.from = from;
+            this.to = to;
+            this.chunkBytes = chunkBytes;
+        }
+
+        @Override
+        protected KadaneSummary compute() {
+            if (to - from <= chunkBytes) {
+                KadaneAccumulator acc = new KadaneAccumulator();
+                try {
+                    scan(channel, fileSize, from, to, acc, new long[BLOCK]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return acc.summary();
+            }
+            long chunks = (to - from + chunkBytes - 1) / chunkBytes;
+            long mid = from + (chunks / 2) * chunkBytes;
+            ChunkTask left = new ChunkTask(channel, fileSize, from, mid, chunkBytes);
+            ChunkTask right = new ChunkTask(channel, fileSize, mid, to, chunkBytes);
+            left.fork();
+            KadaneSummary rightSummary = right.compute();
+            KadaneSummary leftSummary = left.join();
+            return leftSummary.merge(rightSummary.withOffset(leftSummary.length()));
+        }
+    }
+}
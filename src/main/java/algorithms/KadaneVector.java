@@ -0,0 +1,174 @@
+package algorithms;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+  Opt-in SIMD Kadane on the JDK Vector API (jdk.incubator.vector, needs --add-modules).
+  The maximum subarray is max over j of P(j) - min(P(i), i < j), with P the prefix sums
+  and P(-1) = 0. Each block of lanes gets:
+    - an in-register prefix sum (log2(lanes) shift-and-add steps) plus the running carry,
+    - an exclusive running prefix minimum across lanes, seeded with the minimum so far,
+    - a lane-wise difference reduced with MAX.
+  This removes the maxEnding dependency chain of Kadane.run. Only the sum is tracked in
+  vector form; when a block improves the best sum its position is remembered and the
+  indices are resolved afterwards with a short scalar pass over at most two blocks.
+  Indices and tie-breaking (earliest end, then earliest start) match Kadane.run
+  whenever prefix sums do not overflow.
+*/
+public final class KadaneVector {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    // lane shifts by 1, 2, 4, ...: SHIFTS[s] moves lane j to j + 2^s, FILLS[s] marks the vacated low lanes
+    private static final int STEPS = Integer.numberOfTrailingZeros(LANES);
+    private static final VectorShuffle<Long>[] SHIFTS = shifts();
+    private static final VectorMask<Long>[] FILLS = fills();
+
+    private KadaneVector() {
+    }
+
+    public static int lanes() {
+        return LANES;
+    }
+
+    public static KadaneResult run(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (array.length == 0) {
+            return new KadaneResult(0L, -1, -1);
+        }
+
+        LongVector zero = LongVector.zero(SPECIES);
+        LongVector maxVector = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        VectorMask<Long> firstLane = FILLS[0];
+
+        long carry = 0;                 // P(blockStart - 1)
+        long minValue = 0;              // min P(i) for i < blockStart, P(-1) = 0
+        int minBlock = -1;              // block where minValue is first reached (-1: the empty prefix)
+        long minBlockCarry = 0;
+
+        long best = Long.MIN_VALUE;
+        int bestBlock = 0;
+        long bestBlockCarry = 0;
+        long bestMinValue = 0;          // minValue, minBlock and minBlockCarry as seen by bestBlock
+        int bestMinBlock = -1;
+        long bestMinBlockCarry = 0;
+
+        int bound = SPECIES.loopBound(array.length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            LongVector v = LongVector.fromArray(SPECIES, array, i);
+            LongVector prefix = v;
+            for (int s = 0; s < STEPS; s++) {
+                prefix = prefix.add(prefix.rearrange(SHIFTS[s]).blend(zero, FILLS[s]));
+            }
+            prefix = prefix.add(carry);
+
+            LongVector runningMin = prefix;
+            for (int s = 0; s < STEPS; s++) {
+                runningMin = runningMin.min(runningMin.rearrange(SHIFTS[s]).blend(maxVector, FILLS[s]));
+            }
+            LongVector minBefore = runningMin.rearrange(SHIFTS[0]).blend(minValue, firstLane).min(minValue);
+            long blockBest = prefix.sub(minBefore).reduceLanes(VectorOperators.MAX);
+
+            if (blockBest > best) {
+                best = blockBest;
+                bestBlock = i;
+                bestBlockCarry = carry;
+                bestMinValue = minValue;
+                bestMinBlock = minBlock;
+                bestMinBlockCarry = minBlockCarry;
+            }
+            long blockMin = runningMin.reduceLanes(VectorOperators.MIN);
+            if (blockMin < minValue) {
+                minValue = blockMin;
+                minBlock = i;
+                minBlockCarry = carry;
+            }
+            carry += v.reduceLanes(VectorOperators.ADD);
+        }
+
+        // scalar tail, same bookkeeping with the tail as one short block
+        if (i < array.length) {
+            long running = carry;
+            long tailMin = minValue;
+            long tailBest = Long.MIN_VALUE;
+            for (int j = i; j < array.length; j++) {
+                running += array[j];
+                tailBest = Math.max(tailBest, running - tailMin);
+                tailMin = Math.min(tailMin, running);
+            }
+            if (tailBest > best) {
+                best = tailBest;
+                bestBlock = i;
+                bestBlockCarry = carry;
+                bestMinValue = minValue;
+                bestMinBlock = minBlock;
+                bestMinBlockCarry = minBlockCarry;
+            }
+        }
+
+        return resolve(array, best, bestBlock, bestBlockCarry, bestMinValue, bestMinBlock, bestMinBlockCarry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Long>[] shifts() {
+        VectorShuffle<Long>[] shifts = new VectorShuffle[Math.max(STEPS, 1)];
+        for (int s = 0; s < shifts.length; s++) {
+            int k = 1 << s;
+            shifts[s] = VectorShuffle.fromOp(SPECIES, j -> Math.floorMod(j - k, LANES));
+        }
+        return shifts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorMask<Long>[] fills() {
+        VectorMask<Long>[] fills = new VectorMask[Math.max(STEPS, 1)];
+        for (int s = 0; s < fills.length; s++) {
+            fills[s] = SPECIES.indexInRange(0, 1 << s);
+        }
+        return fills;
+    }
+
+    // finds the earliest end inside bestBlock and the earliest start of the matching minimum prefix
+    private static KadaneResult resolve(long[] array, long best, int block, long carry,
+                                        long priorMin, int priorMinBlock, long priorMinBlockCarry) {
+        int blockEnd = Math.min(block + LANES, array.length);
+        long running = carry;
+        long minSoFar = priorMin;
+        int end = -1;
+        for (int j = block; j < blockEnd; j++) {
+            running += array[j];
+            if (running - minSoFar == best) {
+                end = j;
+                break;
+            }
+            minSoFar = Math.min(minSoFar, running);
+        }
+        long target = running - best;   // P(start - 1)
+
+        if (target == priorMin) {
+            if (priorMinBlock < 0) {
+                return new KadaneResult(best, 0, end);
+            }
+            long p = priorMinBlockCarry;
+            for (int j = priorMinBlock; ; j++) {
+                p += array[j];
+                if (p == target) {
+                    return new KadaneResult(best, j + 1, end);
+                }
+            }
+        }
+        long p = carry;
+        for (int j = block; ; j++) {
+            p += array[j];
+            if (p == target) {
+                return new KadaneResult(best, j + 1, end);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package algorithms;
+
+/*
+  Result container for Kadane's algorithm over inputs addressed by long offsets
+  (streams, mapped files), where indices may exceed Integer.MAX_VALUE.
+  - maxSum: maximum subarray sum.
+  - startIndex, endIndex: inclusive global offsets of the subarray, or -1 if none.
+*/
+public record LongKadaneResult(long maxSum, long startIndex, long endIndex) {
+
+    public long getMaxSum() {
+        return maxSum();
+    }
+
+    public long getStartIndex() {
+        return startIndex();
+    }
+
+    public long getEndIndex() {
+        return endIndex();
+    }
+
+    // narrows to the int-indexed result; throws ArithmeticException if an index does not fit
+    public KadaneResult toKadaneResult() {
+        return new KadaneResult(maxSum, Math.toIntExact(startIndex), Math.toIntExact(endIndex));
+    }
+}
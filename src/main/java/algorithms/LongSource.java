@@ -0,0 +1,26 @@
+package algorithms;
+
+/*
+  Random-access, read-only sequence of long values that need not exist in memory.
+  - size(): number of values, may exceed Integer.MAX_VALUE.
+  - get(index): one value.
+  - read(from, buffer, offset, length): bulk copy of values [from, from + length) into buffer;
+    sources that compute values on demand override it with one tight loop per block.
+  Reads of different ranges must be safe from different threads, so a source can be split
+  by index range (KadaneSourceEngine.runParallel).
+*/
+public interface LongSource {
+
+    long size();
+
+    long get(long index);
+
+    default void read(long from, long[] buffer, int offset, int length) {
+        if (from < 0 || length < 0 || from > size() - length) {
+            throw new IllegalArgumentException("Range [" + from + ", " + from + " + " + length + ") out of [0, " + size() + ")");
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = get(from + i);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package algorithms;
+
+/*
+  Reusable, mutable result holder for allocation-free Kadane calls.
+  Pass the same instance to Kadane.runInto on every call and read the getters afterwards.
+  Not thread-safe; use one holder per thread.
+*/
+public final class MutableKadaneResult implements KadaneResultSink {
+    private long maxSum;
+    private int startIndex = -1;
+    private int endIndex = -1;
+
+    @Override
+    public void onResult(long maxSum, int startIndex, int endIndex) {
+        this.maxSum = maxSum;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    public long getMaxSum() {
+        return maxSum;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    // allocates; meant for logging and tests, not for the hot path
+    public KadaneResult toKadaneResult() {
+        return new KadaneResult(maxSum, startIndex, endIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableKadaneResult [maxSum=" + maxSum + ", startIndex=" + startIndex + ", endIndex=" + endIndex + "]";
+    }
+}
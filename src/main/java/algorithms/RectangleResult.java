@@ -0,0 +1,25 @@
+package algorithms;
+
+/*
+  Result container for the 2D maximum-sum submatrix search (Kadane2D).
+  - maxSum: maximum rectangle sum.
+  - top, left, bottom, right: inclusive corner coordinates, or -1 for an empty matrix.
+*/
+public record RectangleResult(long maxSum, int top, int left, int bottom, int right) {
+    static final RectangleResult EMPTY = new RectangleResult(0L, -1, -1, -1, -1);
+
+    public long getMaxSum() {
+        return maxSum();
+    }
+
+    // the larger sum wins; ties go to the earlier top, then the earlier bottom row
+    RectangleResult better(RectangleResult other) {
+        if (other.maxSum != maxSum) {
+            return other.maxSum > maxSum ? other : this;
+        }
+        if (other.top != top) {
+            return other.top < top ? other : this;
+        }
+        return other.bottom < bottom ? other : this;
+    }
+}
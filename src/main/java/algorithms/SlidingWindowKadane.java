@@ -0,0 +1,247 @@
+package algorithms;
+
+import java.util.function.LongConsumer;
+
+/*
+  Maximum subarray over the last W samples of a stream, updated on every tick.
+  The window is kept as a two-stack queue of segment summaries:
+    - back: samples appended since the last flip, summarized incrementally (a Kadane step per sample);
+    - front: older samples, stored as suffix summaries in primitive column arrays, so evicting
+      the oldest sample is a pop.
+  When front runs empty the back samples are flipped over, each sample is moved once,
+  so accept() costs amortized O(1) and never allocates. The window best is the best of
+  front.best, back.best and front.suffix + back.prefix, with Kadane.run tie-breaking.
+  Indices are long global tick offsets (the first accepted sample is 0).
+*/
+public final class SlidingWindowKadane implements LongConsumer {
+    private final int window;
+
+    // back stack: raw samples in arrival order plus their running summary
+    private final long[] backValues;
+    private int backCount;
+    private long backFirstIndex;
+    private long backTotal;
+    private long backPrefixSum;
+    private long backPrefixEnd;
+    private long backMaxEnding;
+    private long backTemporaryStart;
+    private long backBestSum;
+    private long backBestStart;
+    private long backBestEnd;
+
+    // front stack: entry k summarizes samples from its own position to the newest front sample;
+    // the top (frontCount - 1) covers the whole front and belongs to the oldest sample
+    private final long[] frontSuffixSum;
+    private final long[] frontSuffixStart;
+    private final long[] frontBestSum;
+    private final long[] frontBestStart;
+    private final long[] frontBestEnd;
+    private int frontCount;
+
+    private long ticks;
+    private long maxSum;
+    private long startIndex = -1;
+    private long endIndex = -1;
+
+    public SlidingWindowKadane(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.window = window;
+        backValues = new long[window];
+        frontSuffixSum = new long[window];
+        frontSuffixStart = new long[window];
+        frontBestSum = new long[window];
+        frontBestStart = new long[window];
+        frontBestEnd = new long[window];
+    }
+
+    public int window() {
+        return window;
+    }
+
+    // number of samples currently inside the window
+    public int size() {
+        return backCount + frontCount;
+    }
+
+    public long ticks() {
+        return ticks;
+    }
+
+    @Override
+    public void accept(long value) {
+        if (size() == window) {
+            if (frontCount == 0) {
+                flip();
+            }
+            frontCount--;
+        }
+        push(value);
+        ticks++;
+        evaluate();
+    }
+
+    public long getMaxSum() {
+        return maxSum;
+    }
+
+    public long getStartIndex() {
+        return startIndex;
+    }
+
+    public long getEndIndex() {
+        return endIndex;
+    }
+
+    public LongKadaneResult result() {
+        return new LongKadaneResult(maxSum, startIndex, endIndex);
+    }
+
+    /*
+      Batch mode: for every tick t, writes the best subarray inside values[max(0, t - window + 1) .. t]
+      into sums[t], starts[t], ends[t]. starts and ends may be null when only sums are needed.
+    */
+    public static void runBatch(long[] values, int window, long[] sums, int[] starts, int[] ends) {
+        if (values == null || sums == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (sums.length < values.length
+                || (starts != null && starts.length < values.length)
+                || (ends != null && ends.length < values.length)) {
+            throw new IllegalArgumentException("Output arrays must hold " + values.length + " entries");
+        }
+        SlidingWindowKadane sliding = new SlidingWindowKadane(window);
+        for (int t = 0; t < values.length; t++) {
+            sliding.accept(values[t]);
+            sums[t] = sliding.maxSum;
+            if (starts != null) {
+                starts[t] = (int) sliding.startIndex;
+            }
+            if (ends != null) {
+                ends[t] = (int) sliding.endIndex;
+            }
+        }
+    }
+
+    public static long[] runBatch(long[] values, int window) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        long[] sums = new long[values.length];
+        runBatch(values, window, sums, null, null);
+        return sums;
+    }
+
+    // appends one sample to the back stack (same step as the loop in Kadane.run)
+    private void push(long value) {
+        long i = ticks;
+        if (backCount == 0) {
+            backFirstIndex = i;
+            backTotal = value;
+            backPrefixSum = value;
+            backPrefixEnd = i;
+            backMaxEnding = value;
+            backTemporaryStart = i;
+            backBestSum = value;
+            backBestStart = i;
+            backBestEnd = i;
+        } else {
+            backTotal += value;
+            if (backTotal > backPrefixSum) {
+                backPrefixSum = backTotal;
+                backPrefixEnd = i;
+            }
+            long sum = value + backMaxEnding;
+            if (value > sum) {
+                backMaxEnding = value;
+                backTemporaryStart = i;
+            } else {
+                backMaxEnding = sum;
+            }
+            if (backMaxEnding > backBestSum) {
+                backBestSum = backMaxEnding;
+                backBestStart = backTemporaryStart;
+                backBestEnd = i;
+            }
+        }
+        backValues[backCount++] = value;
+    }
+
+    // moves all back samples to the front stack, newest first, prepending one sample at a time
+    private void flip() {
+        long total = 0;
+        long prefixSum = 0;
+        long prefixEnd = -1;
+        long suffixSum = 0;
+        long suffixStart = -1;
+        long bestSum = 0;
+        long bestStart = -1;
+        long bestEnd = -1;
+        for (int k = backCount - 1; k >= 0; k--) {
+            long value = backValues[k];
+            long i = backFirstIndex + k;
+            if (prefixEnd == -1) {
+                total = prefixSum = suffixSum = bestSum = value;
+                prefixEnd = suffixStart = bestStart = bestEnd = i;
+            } else {
+                total += value;
+                // a longer prefix only wins when strictly better (earlier end on ties)
+                long extendedPrefix = value + prefixSum;
+                if (extendedPrefix > value) {
+                    prefixSum = extendedPrefix;
+                } else {
+                    prefixSum = value;
+                    prefixEnd = i;
+                }
+                // the whole segment wins suffix ties (earlier start)
+                if (total >= suffixSum) {
+                    suffixSum = total;
+                    suffixStart = i;
+                }
+                // new candidates all start at i; the best of them is the new prefix
+                if (KadaneSummary.isBetter(prefixSum, i, prefixEnd, bestSum, bestStart, bestEnd)) {
+                    bestSum = prefixSum;
+                    bestStart = i;
+                    bestEnd = prefixEnd;
+                }
+            }
+            frontSuffixSum[frontCount] = suffixSum;
+            frontSuffixStart[frontCount] = suffixStart;
+            frontBestSum[frontCount] = bestSum;
+            frontBestStart[frontCount] = bestStart;
+            frontBestEnd[frontCount] = bestEnd;
+            frontCount++;
+        }
+        backCount = 0;
+    }
+
+    private void evaluate() {
+        if (frontCount == 0) {
+            maxSum = backBestSum;
+            startIndex = backBestStart;
+            endIndex = backBestEnd;
+            return;
+        }
+        int top = frontCount - 1;
+        long sum = frontBestSum[top];
+        long start = frontBestStart[top];
+        long end = frontBestEnd[top];
+        if (backCount > 0) {
+            long crossingSum = frontSuffixSum[top] + backPrefixSum;
+            if (KadaneSummary.isBetter(crossingSum, frontSuffixStart[top], backPrefixEnd, sum, start, end)) {
+                sum = crossingSum;
+                start = frontSuffixStart[top];
+                end = backPrefixEnd;
+            }
+            if (KadaneSummary.isBetter(backBestSum, backBestStart, backBestEnd, sum, start, end)) {
+                sum = backBestSum;
+                start = backBestStart;
+                end = backBestEnd;
+            }
+        }
+        maxSum = sum;
+        startIndex = start;
+        endIndex = end;
+    }
+}
@@ -1,7 +1,10 @@
 package benchmark;
 
 import algorithms.Kadane;
+import algorithms.KadaneCalibration;
 import algorithms.KadaneResult;
+import algorithms.KadaneVector;
+import algorithms.MutableKadaneResult;
 import metrics.PerformanceTracker;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -12,6 +15,10 @@ import java.util.concurrent.TimeUnit;
 /**
  * JMH benchmark for Kadane:
  * - measures plain (no tracker) and instrumented (tracker) runs
+ * - measures the allocation-free sink path; run with "-prof gc" to check gc.alloc.rate.norm is ~0 B/op
+ * - measures the SIMD engine (KadaneVector) against plain; its forks add the incubator module
+ * - measures the branchless kernel against plain, including sign-alternating and random-sign
+ *   inputs (random_signs:p is positive with probability p) that defeat the branch predictor
  * - generates input once per trial to avoid measuring generation overhead
  */
 @BenchmarkMode(Mode.AverageTime)
@@ -25,18 +32,24 @@ public class KadaneBenchmark {
     @Param({"100", "1000", "10000", "100000"})
     private int size;
 
-    @Param({"random", "sorted", "reverse_sorted", "all_positive", "all_negative"})
+    @Param({"random", "sorted", "reverse_sorted", "all_positive", "all_negative",
+            "alternating_signs", "random_signs:0.5", "random_signs:0.9"})
     private String dataType;
 
     // the array used by the benchmark methods, prepared in @Setup
     private long[] array;
 
+    // reused result holder for the sink benchmark
+    private final MutableKadaneResult holder = new MutableKadaneResult();
+
     // use a fixed seed for reproducibility; change if you want different arrays across trials
     private static final long SEED = 42L;
 
     @Setup(Level.Trial)
     public void setup() {
         this.array = generateArrayBasedOnType(size, dataType, SEED);
+        // calibrate here, not inside the first timed auto() call
+        KadaneCalibration.getDefault();
     }
 
     // Plain benchmark
@@ -46,6 +59,33 @@ public class KadaneBenchmark {
         return Kadane.run(array);
     }
 
+    // Allocation-free benchmark: result written into a reused holder
+    @Benchmark
+    public long sink() {
+        Kadane.runInto(array, holder);
+        return holder.getMaxSum() + holder.getStartIndex() + holder.getEndIndex();
+    }
+
+    // Vector API benchmark, compare with plain()
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public KadaneResult vectorized() {
+        return KadaneVector.run(array);
+    }
+
+    // Branchless kernel, compare with plain() per data type
+    @Benchmark
+    public KadaneResult branchless() {
+        return Kadane.runBranchless(array);
+    }
+
+    // Calibrated engine selection, compare with the engine it picks; calibration runs in @Setup
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public KadaneResult auto() {
+        return Kadane.runAuto(array);
+    }
+
     // Instrumented benchmark: collects counters via PerformanceTracker
     @Benchmark
     public void instrumented(Blackhole bh) {
@@ -78,7 +118,15 @@ public class KadaneBenchmark {
             case "all_negative":
                 for (int i = 0; i < size; i++) array[i] = - (Math.abs(random.nextInt(1000)) + 1L);
                 break;
+            case "alternating_signs":
+                for (int i = 0; i < size; i++) array[i] = (i % 2 == 0 ? 1 : -1) * (random.nextInt(1000) + 1L);
+                break;
             default:
+                if (type.startsWith("random_signs:")) {
+                    double p = Double.parseDouble(type.substring("random_signs:".length()));
+                    for (int i = 0; i < size; i++) array[i] = (random.nextDouble() < p ? 1 : -1) * (random.nextInt(1000) + 1L);
+                    break;
+                }
                 throw new IllegalArgumentException("Unknown data type: " + type);
         }
         return array;
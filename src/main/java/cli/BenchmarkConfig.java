@@ -12,6 +12,30 @@ public class BenchmarkConfig {
     public String[] inputTypes;        // was String inputType
     public int trials = 3;
     public File outputFile;
+    public File latencyOutputFile;     // optional nanosecond latency summary (null = off)
+    public File inputFile;             // text file of integers scanned instead of generated arrays (null = off)
+    public int workers = 0;            // --input-file sharded over this many worker JVMs (0 = in process)
+    public boolean pipelined = false;  // generate / compute / write on separate threads
+
+    // --cache: arrays from a DatasetCache keyed by (type, size, seed) instead of DataGenerator
+    public boolean cache = false;
+    public long cacheBudgetBytes = 1L << 30;
+    public File cacheDirectory;        // optional spill directory for mapped dataset files
+    public long seed = 42;
+
+    // rigorous mode: one array per (type, size), warm-up, steady state, outlier rejection, 95% CI
+    public boolean rigorous = false;
+    public int warmupIterations = 20;
+    public double steadyStateCv = 0.05;        // steady once the last window has stddev/mean below this
+    public int steadyStateWindow = 5;
+    public int maxSteadyStateIterations = 200; // measure anyway (flagged) if never steady
+    public double outlierIqrFactor = 1.5;      // Tukey fences, 0 = keep every sample
+    public File statsOutputFile;               // optional rigorous-mode summary CSV
+
+    // --fork: each (type, size) cell runs in this many fresh child JVMs (0 = in this JVM)
+    public int forks = 0;
+    public String[] jvmArgs = new String[0];
+    public boolean child = false;              // set in the child JVM, reports runs on stdout
 
     @Override
     public String toString() {
@@ -20,6 +44,23 @@ public class BenchmarkConfig {
                 ", inputTypes=" + (inputTypes == null ? "null" : Arrays.toString(inputTypes)) +
                 ", trials=" + trials +
                 ", outputFile=" + (outputFile == null ? "null" : outputFile.getAbsolutePath()) +
+                ", latencyOutputFile=" + (latencyOutputFile == null ? "null" : latencyOutputFile.getAbsolutePath()) +
+                ", inputFile=" + (inputFile == null ? "null" : inputFile.getAbsolutePath()) +
+                ", workers=" + workers +
+                ", pipelined=" + pipelined +
+                ", cache=" + cache +
+                ", cacheBudgetBytes=" + cacheBudgetBytes +
+                ", cacheDirectory=" + (cacheDirectory == null ? "null" : cacheDirectory.getAbsolutePath()) +
+                ", seed=" + seed +
+                ", rigorous=" + rigorous +
+                ", warmupIterations=" + warmupIterations +
+                ", steadyStateCv=" + steadyStateCv +
+                ", steadyStateWindow=" + steadyStateWindow +
+                ", maxSteadyStateIterations=" + maxSteadyStateIterations +
+                ", outlierIqrFactor=" + outlierIqrFactor +
+                ", forks=" + forks +
+                ", jvmArgs=" + Arrays.toString(jvmArgs) +
+                ", statsOutputFile=" + (statsOutputFile == null ? "null" : statsOutputFile.getAbsolutePath()) +
                 '}';
     }
 }
@@ -2,19 +2,48 @@ package cli;
 
 import algorithms.Kadane;
 import algorithms.KadaneResult;
+import algorithms.KadaneSummary;
+import algorithms.KadaneTextEngine;
+import algorithms.LongKadaneResult;
+import metrics.AsyncMetricsCsvWriter;
+import metrics.LatencyHistogram;
 import metrics.PerformanceTracker;
 import metrics.MetricsCsvWriter;
+import metrics.SampleStatistics;
+import utils.DatasetCache;
+import utils.GenerateUtils;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CLI benchmark runner for Kadane's algorithm with configurable input sizes and types.
  */
 public class BenchmarkRunner {
+    // stdout protocol between a forked child and the parent runner
+    private static final String CHILD_TRIAL = "@trial";
+    private static final String CHILD_STEADY = "@steady";
+
+    // --pipelined: arrays generated ahead of the compute stage, and the stage end markers
+    private static final int PIPELINE_DEPTH = 2;
+    private static final long[] END_OF_INPUT = new long[0];
+    private static final Trial END_OF_TRIALS = new Trial(-1, null);
 
     public static void main(String[] args) {
         if (args.length == 0 || (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h")))) {
@@ -25,6 +54,10 @@ public class BenchmarkRunner {
         try {
             BenchmarkConfig config = parseArguments(args);
             validateConfig(config);
+            if (config.child) {
+                runChild(config);
+                return;
+            }
 
             // ensure output file exists / create parent dirs
             if (config.outputFile == null) {
@@ -39,18 +72,45 @@ public class BenchmarkRunner {
             }
 
             System.out.println("Running benchmarks with configuration:");
-            System.out.println("  Sizes: " + Arrays.toString(config.sizes));
-            System.out.println("  Input type: " + Arrays.toString(config.inputTypes));
+            if (config.inputFile != null) {
+                System.out.println("  Input file: " + config.inputFile.getAbsolutePath());
+            } else {
+                System.out.println("  Sizes: " + Arrays.toString(config.sizes));
+                System.out.println("  Input type: " + Arrays.toString(config.inputTypes));
+            }
             System.out.println("  Trials: " + config.trials);
             System.out.println("  Output: " + config.outputFile.getAbsolutePath());
+            if (config.latencyOutputFile != null) {
+                System.out.println("  Latency output: " + config.latencyOutputFile.getAbsolutePath());
+            }
+            if (config.rigorous) {
+                System.out.printf("  Rigorous: warmup=%d, steady cv<=%s over %d runs (max %d), outlier IQR factor=%s%n",
+                        config.warmupIterations, config.steadyStateCv, config.steadyStateWindow,
+                        config.maxSteadyStateIterations, config.outlierIqrFactor);
+            }
+            if (config.statsOutputFile != null) {
+                System.out.println("  Stats output: " + config.statsOutputFile.getAbsolutePath());
+            }
+            if (config.cache) {
+                System.out.println("  Cache: seed=" + config.seed + ", budget=" + config.cacheBudgetBytes / (1024 * 1024) + " MiB"
+                        + (config.cacheDirectory == null ? "" : ", spill to " + config.cacheDirectory.getAbsolutePath()));
+            }
+            System.out.println("  Mode: " + (config.rigorous ? "rigorous" : config.pipelined ? "pipelined"
+                    : config.workers > 0 ? "sharded over " + config.workers + " worker JVMs" : "serial"));
+            if (config.forks > 0) {
+                System.out.println("  Forks: " + config.forks + " per cell, JVM args: " + Arrays.toString(config.jvmArgs));
+            }
 
             runBenchmarks(config);
+        } catch (InvalidInputException e) {
+            System.err.println("Invalid input: " + e.getMessage());
+            System.exit(4);
         } catch (IllegalArgumentException e) {
             System.err.println("Argument error: " + e.getMessage());
             printUsage();
             System.exit(1);
         } catch (IOException e) {
-            System.err.println("I/O error while preparing output file: " + e.getMessage());
+            System.err.println("I/O error: " + e.getMessage());
             System.exit(2);
         } catch (Exception e) {
             System.err.println("Unexpected error: " + e.getMessage());
@@ -89,6 +149,76 @@ public class BenchmarkRunner {
                     if (i + 1 >= args.length) throw new IllegalArgumentException("--output requires a file path");
                     config.outputFile = new File(args[++i]);
                     break;
+                case "--latency-output":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--latency-output requires a file path");
+                    config.latencyOutputFile = new File(args[++i]);
+                    break;
+                case "--input-file":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--input-file requires a file path");
+                    config.inputFile = new File(args[++i]);
+                    break;
+                case "--workers":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--workers requires a number");
+                    config.workers = parseInt(args[++i], "workers");
+                    break;
+                case "--rigorous":
+                    config.rigorous = true;
+                    break;
+                case "--warmup":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--warmup requires a number");
+                    config.warmupIterations = parseInt(args[++i], "warmup");
+                    break;
+                case "--steady-cv":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--steady-cv requires a number");
+                    config.steadyStateCv = parseDouble(args[++i], "steady-cv");
+                    break;
+                case "--steady-window":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--steady-window requires a number");
+                    config.steadyStateWindow = parseInt(args[++i], "steady-window");
+                    break;
+                case "--max-steady-iterations":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--max-steady-iterations requires a number");
+                    config.maxSteadyStateIterations = parseInt(args[++i], "max-steady-iterations");
+                    break;
+                case "--outlier-iqr":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--outlier-iqr requires a number");
+                    config.outlierIqrFactor = parseDouble(args[++i], "outlier-iqr");
+                    break;
+                case "--stats-output":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--stats-output requires a file path");
+                    config.statsOutputFile = new File(args[++i]);
+                    break;
+                case "--fork":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--fork requires a number");
+                    config.forks = parseInt(args[++i], "fork");
+                    break;
+                case "--jvm-args":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--jvm-args requires a value");
+                    String jvmArgs = args[++i].trim();
+                    config.jvmArgs = jvmArgs.isEmpty() ? new String[0] : jvmArgs.split("\\s+");
+                    break;
+                case "--pipelined":
+                    config.pipelined = true;
+                    break;
+                case "--cache":
+                    config.cache = true;
+                    break;
+                case "--cache-budget-mb":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--cache-budget-mb requires a number");
+                    config.cacheBudgetBytes = parseLong(args[++i], "cache-budget-mb") * 1024 * 1024;
+                    break;
+                case "--cache-dir":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--cache-dir requires a directory");
+                    config.cacheDirectory = new File(args[++i]);
+                    config.cache = true;
+                    break;
+                case "--seed":
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("--seed requires a number");
+                    config.seed = parseLong(args[++i], "seed");
+                    break;
+                case "--child":
+                    config.child = true;
+                    break;
                 case "--help":
                 case "-h":
                     printUsage();
@@ -102,35 +232,523 @@ public class BenchmarkRunner {
     }
 
     private static void runBenchmarks(BenchmarkConfig config) throws IOException {
-        // Write CSV header (overwrites existing file)
-        MetricsCsvWriter.writeHeader(config.outputFile);
+        // one open handle for the whole sweep, rows are flushed in batches by a background thread
+        try (AsyncMetricsCsvWriter writer = new AsyncMetricsCsvWriter(config.outputFile, false)) {
+            // Write CSV header (overwrites existing file)
+            writer.writeHeader();
+            runBenchmarks(config, writer);
+        }
+        System.out.println("Benchmark completed. Results saved to: " + config.outputFile.getAbsolutePath());
+    }
+
+    private static void runBenchmarks(BenchmarkConfig config, AsyncMetricsCsvWriter writer) throws IOException {
+        // one histogram reused for every (input type, size) cell, recording never allocates
+        LatencyHistogram latency = null;
+        if (config.latencyOutputFile != null) {
+            Path latencyPath = config.latencyOutputFile.toPath();
+            if (latencyPath.getParent() != null) {
+                Files.createDirectories(latencyPath.getParent());
+            }
+            MetricsCsvWriter.writeLatencyHeader(config.latencyOutputFile);
+            latency = new LatencyHistogram();
+        }
+        if (config.statsOutputFile != null) {
+            Path statsPath = config.statsOutputFile.toPath();
+            if (statsPath.getParent() != null) {
+                Files.createDirectories(statsPath.getParent());
+            }
+            MetricsCsvWriter.writeStatsHeader(config.statsOutputFile);
+        }
+        if (config.inputFile != null) {
+            runInputFile(config, writer, latency);
+            return;
+        }
+
+        // in-process cells share one cache; forked children build their own (and share its spill directory)
+        DatasetCache cache = config.cache && config.forks == 0 ? newCache(config) : null;
 
         for (String inputType : config.inputTypes) {
             System.out.println("Input type: " + inputType);
+            String label = rowLabel(config, inputType);
 
             for (int size : config.sizes) {
                 System.out.println("  Testing size: " + size);
+                CellResults cell = new CellResults(config.trials * Math.max(1, config.forks));
+                if (config.forks > 0) {
+                    for (int fork = 1; fork <= config.forks; fork++) {
+                        runFork(config, inputType, size, fork, writer, cell);
+                    }
+                } else {
+                    runCell(config, inputType, size, cache, new CellListener() {
+                        @Override
+                        public void onTrial(int trial, PerformanceTracker tracker) throws IOException {
+                            writer.appendLine("Kadane", label, size, trial, tracker);
+                            cell.addSample(tracker.getTimeNs());
+                        }
+
+                        @Override
+                        public void onSteadyState(int iterations, boolean steady) {
+                            cell.addSteadyState(iterations, steady);
+                        }
+                    });
+                }
+                reportCell(config, label, size, cell, latency);
+            }
+        }
+        if (cache != null) {
+            System.out.println(cacheSummary(cache));
+        }
+    }
+
+    // every trial maps, parses and scans the whole text file, with KadaneTextEngine on the common pool
+    // or sharded over --workers worker JVMs that stay up for all trials
+    private static void runInputFile(BenchmarkConfig config, AsyncMetricsCsvWriter writer, LatencyHistogram latency)
+            throws IOException {
+        String inputType = "file:" + config.inputFile.getName();
+        System.out.println("Input file: " + config.inputFile.getAbsolutePath());
+        CellResults cell = new CellResults(config.trials);
+        KadaneSummary summary = null;
+        ShardCoordinator coordinator = config.workers > 0
+                ? ShardCoordinator.start(config.workers, Arrays.asList(config.jvmArgs)) : null;
+        try (FileChannel channel = FileChannel.open(config.inputFile.toPath(), StandardOpenOption.READ)) {
+            for (int trial = 1; trial <= config.trials; trial++) {
+                long start = System.nanoTime();
+                try {
+                    summary = coordinator != null
+                            ? coordinator.summarize(config.inputFile.toPath(), ShardCoordinator.Format.TEXT,
+                                    config.workers * ShardCoordinator.RANGES_PER_WORKER)
+                            : KadaneTextEngine.summarize(channel, ForkJoinPool.commonPool(),
+                                    KadaneTextEngine.DEFAULT_CHUNK_BYTES);
+                } catch (IllegalArgumentException e) {
+                    // a ForkJoinPool rethrows a copy without message on this thread, the original is its cause
+                    String message = e.getMessage() == null && e.getCause() != null
+                            ? e.getCause().getMessage() : e.getMessage();
+                    throw new InvalidInputException(config.inputFile + ": " + message);
+                }
+                long timeNs = System.nanoTime() - start;
+                writer.appendRow("Kadane", inputType, summary.length(), trial, timeNs / 1_000_000, 0, 0, 0, 0);
+                cell.addSample(timeNs);
+                System.out.printf(Locale.ROOT, "    Trial %d: %d values in %.1f ms (%.1f ns/value)%n", trial,
+                        summary.length(), timeNs / 1e6, summary.length() == 0 ? 0.0 : (double) timeNs / summary.length());
+            }
+            if (coordinator != null) {
+                System.out.println("    Workers: " + coordinator.getLiveWorkers() + " of " + config.workers + " alive");
+            }
+        } finally {
+            if (coordinator != null) {
+                coordinator.close();
+            }
+        }
+        LongKadaneResult result = summary.toLongKadaneResult();
+        System.out.println("    Result: max sum " + result.maxSum() + " at [" + result.startIndex() + ", " + result.endIndex() + "]");
+        reportCell(config, inputType, summary.length(), cell, latency);
+    }
+
+    private static DatasetCache newCache(BenchmarkConfig config) {
+        return new DatasetCache(config.cacheBudgetBytes,
+                config.cacheDirectory == null ? null : config.cacheDirectory.toPath(), ForkJoinPool.commonPool());
+    }
+
+    private static String cacheSummary(DatasetCache cache) {
+        return String.format(Locale.ROOT, "Dataset cache: %d hits, %d loaded from spill files, %d generated, %d evictions, %d arrays / %.1f MiB resident",
+                cache.getHits(), cache.getDiskLoads(), cache.getMisses(), cache.getEvictions(),
+                cache.getResidentCount(), cache.getResidentBytes() / (1024.0 * 1024.0));
+    }
+
+    // measures one (input type, size) cell in this JVM and reports every measured run
+    private static void runCell(BenchmarkConfig config, String inputType, int size, DatasetCache cache,
+                                CellListener listener) throws IOException {
+        if (config.rigorous) {
+            runRigorous(config, inputType, size, cache, listener);
+            return;
+        }
+        if (config.pipelined) {
+            runPipelined(config, inputType, size, listener);
+            return;
+        }
+        for (int trial = 1; trial <= config.trials; trial++) {
+            long[] array = cache != null ? cache.get(inputType, size, config.seed) : DataGenerator.generateArray(size, inputType);
+            PerformanceTracker tracker = new PerformanceTracker();
+
+            // run algorithm to fill tracker
+            KadaneResult r = Kadane.run(array, tracker);
+
+            listener.onTrial(trial, tracker);
 
+            // print lightweight summary
+            System.out.printf("    Trial %d: accesses=%d, comparisons=%d, assignments=%d%n",
+                    trial, tracker.getArrayAccesses(), tracker.getComparisons(), tracker.getAssignments());
+        }
+    }
+
+    // generation on a producer thread into pooled buffers, compute on this thread, reporting on a consumer thread
+    private static void runPipelined(BenchmarkConfig config, String inputType, int size, CellListener listener)
+            throws IOException {
+        // one buffer in the compute stage plus PIPELINE_DEPTH generated ahead
+        BlockingQueue<long[]> free = new ArrayBlockingQueue<>(PIPELINE_DEPTH + 1);
+        BlockingQueue<long[]> ready = new ArrayBlockingQueue<>(PIPELINE_DEPTH + 1);
+        BlockingQueue<Trial> measured = new ArrayBlockingQueue<>(PIPELINE_DEPTH * 16);
+        for (int i = 0; i <= PIPELINE_DEPTH; i++) {
+            free.add(new long[size]);
+        }
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        Thread generator = new Thread(() -> {
+            try {
                 for (int trial = 1; trial <= config.trials; trial++) {
-                    long[] array = DataGenerator.generateArray(size, inputType);
-                    PerformanceTracker tracker = new PerformanceTracker();
+                    long[] buffer = free.take();
+                    DataGenerator.fillArray(buffer, inputType);
+                    ready.put(buffer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                ready.offer(END_OF_INPUT);
+            }
+        }, "benchmark-generator");
+
+        Thread reporter = new Thread(() -> {
+            try {
+                for (Trial t = measured.take(); t != END_OF_TRIALS; t = measured.take()) {
+                    // after a failure keep draining so the compute stage never blocks
+                    if (failure.get() != null) {
+                        continue;
+                    }
+                    try {
+                        listener.onTrial(t.number(), t.tracker());
+                        System.out.printf("    Trial %d: accesses=%d, comparisons=%d, assignments=%d%n",
+                                t.number(), t.tracker().getArrayAccesses(), t.tracker().getComparisons(),
+                                t.tracker().getAssignments());
+                    } catch (IOException | RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "benchmark-reporter");
+
+        generator.start();
+        reporter.start();
+        try {
+            for (int trial = 1; trial <= config.trials; trial++) {
+                long[] array = ready.take();
+                if (array == END_OF_INPUT) {
+                    break;
+                }
+                PerformanceTracker tracker = new PerformanceTracker();
+
+                // the only stage on the timed thread
+                Kadane.run(array, tracker);
+
+                free.put(array);
+                measured.put(new Trial(trial, tracker));
+            }
+            measured.put(END_OF_TRIALS);
+            reporter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while running pipelined trials");
+        } finally {
+            generator.interrupt();
+            reporter.interrupt();
+        }
+
+        Exception e = failure.get();
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e != null) {
+            throw (RuntimeException) e;
+        }
+    }
+
+    // warm-up, wait for steady state, then measure config.trials runs on one array
+    private static void runRigorous(BenchmarkConfig config, String inputType, int size, DatasetCache cache,
+                                    CellListener listener) throws IOException {
+        // generated once, outside any timed region, so trials differ only in timing
+        long[] array = cache != null ? cache.get(inputType, size, config.seed) : DataGenerator.generateArray(size, inputType);
+        PerformanceTracker tracker = new PerformanceTracker();
+
+        // same instrumented path as the measured runs, so the JIT compiles what is timed
+        for (int w = 0; w < config.warmupIterations; w++) {
+            tracker.reset();
+            Kadane.run(array, tracker);
+        }
+
+        long[] window = new long[config.steadyStateWindow];
+        int steadyIterations = 0;
+        boolean steady = false;
+        while (steadyIterations < config.maxSteadyStateIterations) {
+            tracker.reset();
+            Kadane.run(array, tracker);
+            window[steadyIterations % window.length] = tracker.getTimeNs();
+            steadyIterations++;
+            if (steadyIterations >= window.length
+                    && SampleStatistics.coefficientOfVariation(window, 0, window.length) <= config.steadyStateCv) {
+                steady = true;
+                break;
+            }
+        }
+        if (!steady) {
+            System.out.printf("    Warning: no steady state after %d runs (cv > %s), measuring anyway%n",
+                    steadyIterations, config.steadyStateCv);
+        }
+        listener.onSteadyState(steadyIterations, steady);
+
+        for (int trial = 1; trial <= config.trials; trial++) {
+            tracker.reset();
+            Kadane.run(array, tracker);
+            listener.onTrial(trial, tracker);
+        }
+    }
 
-                    // run algorithm to fill tracker
-                    KadaneResult r = Kadane.run(array, tracker);
+    // latency and rigorous-mode summaries over every run of the cell, across all forks
+    private static void reportCell(BenchmarkConfig config, String inputType, long size, CellResults cell,
+                                   LatencyHistogram latency) throws IOException {
+        if (latency != null) {
+            latency.reset();
+            for (int i = 0; i < cell.count; i++) {
+                latency.record(cell.samples[i]);
+            }
+            MetricsCsvWriter.appendLatencyLine(config.latencyOutputFile, "Kadane", inputType, size, latency);
+            System.out.printf("    Latency: p50=%dns, p99=%dns, max=%dns%n",
+                    latency.getValueAtPercentile(50), latency.getValueAtPercentile(99), latency.getMax());
+        }
+        if (config.rigorous) {
+            SampleStatistics stats = SampleStatistics.of(cell.samples, 0, cell.count, config.outlierIqrFactor);
+            System.out.printf(Locale.ROOT, "    Mean: %.1fns +- %.1fns (95%% CI, %d samples, %d outliers, cv=%.4f, steady after %d)%n",
+                    stats.getMean(), stats.getConfidenceHalfWidth(), stats.getCount(), stats.getOutliers(),
+                    stats.getCoefficientOfVariation(), cell.steadyIterations);
+            if (config.statsOutputFile != null) {
+                MetricsCsvWriter.appendStatsLine(config.statsOutputFile, "Kadane", inputType, size,
+                        config.warmupIterations, cell.steadyIterations, cell.steady, stats);
+            }
+        }
+    }
 
-                    MetricsCsvWriter.appendLine(config.outputFile, "Kadane",
-                            inputType, size, trial, tracker);
+    // cached arrays come from ParallelDataGenerator, not DataGenerator, so their rows carry the seed
+    private static String rowLabel(BenchmarkConfig config, String inputType) {
+        return config.cache ? DatasetCache.label(inputType, config.seed) : inputType;
+    }
 
-                    // print lightweight summary
-                    System.out.printf("    Trial %d: accesses=%d, comparisons=%d, assignments=%d%n",
-                            trial, tracker.getArrayAccesses(), tracker.getComparisons(), tracker.getAssignments());
+    // runs one cell in a fresh JVM; the child reports its runs on stdout as protocol lines
+    private static void runFork(BenchmarkConfig config, String inputType, int size, int fork,
+                                AsyncMetricsCsvWriter writer, CellResults cell) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(config.jvmArgs));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BenchmarkRunner.class.getName());
+        command.addAll(Arrays.asList("--child", "--sizes", Integer.toString(size), "--input-type", inputType,
+                "--trials", Integer.toString(config.trials)));
+        if (config.pipelined) {
+            command.add("--pipelined");
+        }
+        if (config.cache) {
+            command.addAll(Arrays.asList("--cache", "--seed", Long.toString(config.seed),
+                    "--cache-budget-mb", Long.toString(config.cacheBudgetBytes / (1024 * 1024))));
+            if (config.cacheDirectory != null) {
+                command.addAll(Arrays.asList("--cache-dir", config.cacheDirectory.getAbsolutePath()));
+            }
+        }
+        if (config.rigorous) {
+            command.addAll(Arrays.asList("--rigorous",
+                    "--warmup", Integer.toString(config.warmupIterations),
+                    "--steady-cv", Double.toString(config.steadyStateCv),
+                    "--steady-window", Integer.toString(config.steadyStateWindow),
+                    "--max-steady-iterations", Integer.toString(config.maxSteadyStateIterations)));
+        }
+
+        System.out.println("    Fork " + fork + "/" + config.forks);
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        // trials are numbered across forks: fork f reports trials (f-1)*trials+1 .. f*trials
+        int trialOffset = (fork - 1) * config.trials;
+        String label = rowLabel(config, inputType);
+        ChildLineHandler handler = new ChildLineHandler() {
+            @Override
+            public void onTrial(int trial, long timeNs, long comparisons, long arrayAccesses, long assignments,
+                                long additions) throws IOException {
+                writer.appendRow("Kadane", label, size, trialOffset + trial, timeNs / 1_000_000,
+                        comparisons, arrayAccesses, assignments, additions);
+                cell.addSample(timeNs);
+            }
+
+            @Override
+            public void onSteadyState(int iterations, boolean steady) {
+                cell.addSteadyState(iterations, steady);
+            }
+        };
+        int exitCode;
+        boolean exited = false;
+        // any abnormal exit kills the child, an orphan would keep benchmarking into a broken pipe
+        try {
+            try (BufferedReader out = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = out.readLine()) != null) {
+                    boolean protocol;
+                    try {
+                        protocol = parseChildLine(line, handler);
+                    } catch (IllegalArgumentException e) {
+                        throw new IOException("Malformed line from fork " + fork + ": " + line, e);
+                    }
+                    if (!protocol) {
+                        System.out.println("    " + line);
+                    }
                 }
             }
+            try {
+                exitCode = process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for fork " + fork);
+            }
+            exited = true;
+        } finally {
+            if (!exited) {
+                process.destroyForcibly();
+            }
         }
+        if (exitCode != 0) {
+            throw new IOException("Fork " + fork + " for " + inputType + "/" + size + " exited with code " + exitCode);
+        }
+    }
 
-        System.out.println("Benchmark completed. Results saved to: " + config.outputFile.getAbsolutePath());
+    /*
+      Parses one line of the fork protocol and hands it to the handler:
+        @trial <trial> <timeNs> <comparisons> <arrayAccesses> <assignments> <additions>
+        @steady <iterations> <true|false>
+      Returns false for any other line (child console output). A protocol line with the wrong
+      field count or a malformed number or flag throws IllegalArgumentException.
+    */
+    static boolean parseChildLine(String line, ChildLineHandler handler) throws IOException {
+        if (line.startsWith(CHILD_TRIAL + " ")) {
+            String[] f = childFields(line, CHILD_TRIAL, 6);
+            handler.onTrial(Integer.parseInt(f[0]), Long.parseLong(f[1]), Long.parseLong(f[2]),
+                    Long.parseLong(f[3]), Long.parseLong(f[4]), Long.parseLong(f[5]));
+            return true;
+        }
+        if (line.startsWith(CHILD_STEADY + " ")) {
+            String[] f = childFields(line, CHILD_STEADY, 2);
+            if (!f[1].equals("true") && !f[1].equals("false")) {
+                throw new IllegalArgumentException("Steady flag must be true or false: " + f[1]);
+            }
+            handler.onSteadyState(Integer.parseInt(f[0]), Boolean.parseBoolean(f[1]));
+            return true;
+        }
+        return false;
+    }
+
+    private static String[] childFields(String line, String tag, int count) {
+        String[] f = line.substring(tag.length()).trim().split(" ");
+        if (f.length != count) {
+            throw new IllegalArgumentException(tag + " expects " + count + " fields, got " + f.length);
+        }
+        return f;
+    }
+
+    // child side of --fork: measure the requested cells and print one protocol line per run
+    private static void runChild(BenchmarkConfig config) throws IOException {
+        DatasetCache cache = config.cache ? newCache(config) : null;
+        for (String inputType : config.inputTypes) {
+            for (int size : config.sizes) {
+                runCell(config, inputType, size, cache, new CellListener() {
+                    @Override
+                    public void onTrial(int trial, PerformanceTracker tracker) {
+                        System.out.println(CHILD_TRIAL + " " + trial + " " + tracker.getTimeNs() + " "
+                                + tracker.getComparisons() + " " + tracker.getArrayAccesses() + " "
+                                + tracker.getAssignments() + " " + tracker.getAdditions());
+                    }
+
+                    @Override
+                    public void onSteadyState(int iterations, boolean steady) {
+                        System.out.println(CHILD_STEADY + " " + iterations + " " + steady);
+                    }
+                });
+            }
+        }
+        if (cache != null) {
+            System.out.println(cacheSummary(cache));
+        }
+        System.out.flush();
+    }
+
+    // one measured run handed from the compute stage to the reporting stage
+    private record Trial(int number, PerformanceTracker tracker) {
+    }
+
+    // receives the parsed protocol lines of one fork
+    interface ChildLineHandler {
+        void onTrial(int trial, long timeNs, long comparisons, long arrayAccesses, long assignments,
+                     long additions) throws IOException;
+
+        void onSteadyState(int iterations, boolean steady);
+    }
+
+    // receives the measured runs of one cell, either in process or as the child of a fork
+    private interface CellListener {
+        void onTrial(int trial, PerformanceTracker tracker) throws IOException;
+
+        void onSteadyState(int iterations, boolean steady);
     }
 
+    // malformed --input-file data: reported without the usage text, the arguments were fine
+    private static final class InvalidInputException extends RuntimeException {
+        InvalidInputException(String message) {
+            super(message);
+        }
+    }
+
+    // timings (ns) of one cell collected over all forks
+    private static final class CellResults {
+        long[] samples;
+        int count = 0;
+        int steadyIterations = 0;  // slowest fork to reach steady state
+        boolean steady = true;     // every fork reached steady state
+
+        CellResults(int expected) {
+            samples = new long[Math.max(expected, 1)];
+        }
+
+        void addSample(long timeNs) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = timeNs;
+        }
+
+        void addSteadyState(int iterations, boolean reached) {
+            steadyIterations = Math.max(steadyIterations, iterations);
+            steady &= reached;
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " value: must be an integer");
+        }
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " value: must be an integer");
+        }
+    }
+
+    private static double parseDouble(String value, String name) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " value: must be a number");
+        }
+    }
 
     private static int[] parseSizes(String sizesStr) {
         String[] parts = sizesStr.split(",");
@@ -148,6 +766,10 @@ public class BenchmarkRunner {
 
 
     private static void validateConfig(BenchmarkConfig config) {
+        if (config.inputFile != null) {
+            validateInputFileConfig(config);
+            return;
+        }
         if (config.sizes == null || config.sizes.length == 0) {
             throw new IllegalArgumentException("Sizes must be specified (use --sizes)");
         }
@@ -155,6 +777,10 @@ public class BenchmarkRunner {
             throw new IllegalArgumentException("Input type must be specified (use --input-type)");
         }
         for (String t : config.inputTypes) {
+            if (t.startsWith("random_signs:")) {
+                GenerateUtils.positiveProbability(t);
+                continue;
+            }
             switch (t) {
                 case "random":
                 case "sorted":
@@ -162,6 +788,8 @@ public class BenchmarkRunner {
                 case "all_positive":
                 case "all_negative":
                 case "nearly_sorted":
+                case "alternating_signs":
+                case "random_signs":
                     break;
                 default:
                     throw new IllegalArgumentException("Unknown input type: " + t);
@@ -170,6 +798,68 @@ public class BenchmarkRunner {
         if (config.trials <= 0) {
             throw new IllegalArgumentException("Trials must be positive");
         }
+        if (config.rigorous) {
+            if (config.trials < 2) {
+                throw new IllegalArgumentException("Rigorous mode needs at least 2 trials for a confidence interval");
+            }
+            if (config.warmupIterations < 0) {
+                throw new IllegalArgumentException("Warm-up iterations must not be negative");
+            }
+            if (!(config.steadyStateCv > 0)) {
+                throw new IllegalArgumentException("Steady-state cv threshold must be positive");
+            }
+            if (config.steadyStateWindow < 2) {
+                throw new IllegalArgumentException("Steady-state window must be at least 2");
+            }
+            if (config.maxSteadyStateIterations < config.steadyStateWindow) {
+                throw new IllegalArgumentException("Max steady-state iterations must be at least the window size");
+            }
+            if (config.outlierIqrFactor < 0 || Double.isNaN(config.outlierIqrFactor)) {
+                throw new IllegalArgumentException("Outlier IQR factor must not be negative (0 disables rejection)");
+            }
+        } else if (config.statsOutputFile != null) {
+            throw new IllegalArgumentException("--stats-output requires --rigorous");
+        }
+        if (config.pipelined && config.rigorous) {
+            throw new IllegalArgumentException("--pipelined applies to the per-trial mode; --rigorous already generates one array per cell");
+        }
+        if (config.cache && config.pipelined) {
+            throw new IllegalArgumentException("--pipelined has nothing to overlap with --cache: arrays come from the cache");
+        }
+        if (config.cacheBudgetBytes < 0) {
+            throw new IllegalArgumentException("Cache budget must not be negative");
+        }
+        if (config.forks < 0) {
+            throw new IllegalArgumentException("Fork count must not be negative (0 runs in this JVM)");
+        }
+        if (config.workers != 0) {
+            throw new IllegalArgumentException("--workers requires --input-file");
+        }
+        if (config.jvmArgs.length > 0 && config.forks == 0) {
+            throw new IllegalArgumentException("--jvm-args requires --fork or --workers");
+        }
+    }
+
+    // --input-file replaces the generated (type, size) cells with one cell over the file
+    private static void validateInputFileConfig(BenchmarkConfig config) {
+        if (!config.inputFile.isFile()) {
+            throw new IllegalArgumentException("Input file not found: " + config.inputFile);
+        }
+        if (config.sizes != null || config.inputTypes != null) {
+            throw new IllegalArgumentException("--input-file replaces --sizes and --input-type");
+        }
+        if (config.trials <= 0) {
+            throw new IllegalArgumentException("Trials must be positive");
+        }
+        if (config.rigorous || config.pipelined || config.cache || config.forks > 0 || config.child) {
+            throw new IllegalArgumentException("--input-file cannot be combined with --rigorous, --pipelined, --cache or --fork");
+        }
+        if (config.workers < 0) {
+            throw new IllegalArgumentException("Worker count must not be negative (0 scans in this JVM)");
+        }
+        if (config.jvmArgs.length > 0 && config.workers == 0) {
+            throw new IllegalArgumentException("--jvm-args requires --fork or --workers");
+        }
     }
 
     private static void printUsage() {
@@ -178,9 +868,34 @@ public class BenchmarkRunner {
         System.out.println();
         System.out.println("Options:");
         System.out.println("  --sizes <n1,n2,n3>    Array sizes to test (comma-separated)");
-        System.out.println("  --input-type <type>   Input data type: random, sorted, reverse_sorted, all_positive, all_negative, nearly_sorted");
+        System.out.println("  --input-type <type>   Input data type: random, sorted, reverse_sorted, all_positive, all_negative, nearly_sorted,");
+        System.out.println("                        alternating_signs, random_signs[:p] (positive with probability p, default 0.5)");
+        System.out.println("  --input-file <file>   Scan a text file of integers (newline/comma/space separated) instead of");
+        System.out.println("                        generated arrays; replaces --sizes and --input-type, each trial parses the whole file");
+        System.out.println("  --workers <n>         With --input-file: shard each scan over n worker JVMs on loopback sockets,");
+        System.out.println("                        a crashed worker's byte range is reassigned (default: 0, in process)");
         System.out.println("  --trials <n>          Number of trials per size (default: 3)");
         System.out.println("  --output <file>       Output CSV file (default: benchmark_results.csv)");
+        System.out.println("  --latency-output <file>  Nanosecond latency summary CSV (p50/p90/p99/p99.9/max, mean, stddev)");
+        System.out.println("  --rigorous            Warm up, wait for steady state, reject outliers, report 95% CIs");
+        System.out.println("                        (one array per type/size; --trials is the number of measured runs, e.g. 30)");
+        System.out.println("  --warmup <n>          Rigorous mode: untimed warm-up runs (default: 20)");
+        System.out.println("  --steady-cv <x>       Rigorous mode: steady once the window's stddev/mean <= x (default: 0.05)");
+        System.out.println("  --steady-window <n>   Rigorous mode: runs in the steady-state window (default: 5)");
+        System.out.println("  --max-steady-iterations <n>  Rigorous mode: give up waiting for steady state after n runs (default: 200)");
+        System.out.println("  --outlier-iqr <k>     Rigorous mode: Tukey fence factor, 0 keeps all samples (default: 1.5)");
+        System.out.println("  --stats-output <file> Rigorous mode: summary CSV with mean, stddev, cv and 95% CI");
+        System.out.println("  --pipelined           Generate arrays ahead on a producer thread (pooled buffers) and write metrics");
+        System.out.println("                        on a consumer thread; only Kadane.run stays on the timed thread (default: serial)");
+        System.out.println("  --cache               Take arrays from a dataset cache keyed by (type, size, seed), generated with");
+        System.out.println("                        ParallelDataGenerator; hit/miss statistics are printed at the end");
+        System.out.println("                        (different data than the default generator: rows are labelled <type>@seed<n>)");
+        System.out.println("  --cache-budget-mb <n> Cache memory budget, least recently used arrays are evicted (default: 1024)");
+        System.out.println("  --cache-dir <dir>     Spill generated arrays to mapped files in dir and load them on later misses/runs (implies --cache)");
+        System.out.println("  --seed <n>            Seed for cached datasets (default: 42)");
+        System.out.println("  --fork <n>            Run each (type, size) in n fresh child JVMs, merged into one CSV (default: 0, in process)");
+        System.out.println("                        (trials are numbered across forks: 1 .. n * trials)");
+        System.out.println("  --jvm-args \"<args>\"   JVM arguments for the forked children or workers, space-separated");
         System.out.println("  --help, -h            Show this help message");
     }
 }
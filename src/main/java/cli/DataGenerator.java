@@ -1,9 +1,14 @@
 package cli;
 
+import algorithms.LongSource;
+import utils.ParallelDataGenerator;
+
 import static utils.GenerateUtils.*;
 
 /**
- * Generates test data arrays of various distributions
+ * Generates test data arrays of various distributions.
+ * Besides the ordered and random types, "alternating_signs" and "random_signs[:p]" (positive with
+ * probability p, default 0.5) are adversarial inputs for the branch predictor.
  */
 public class DataGenerator {
     public static long[] generateArray(int size, String inputType) {
@@ -11,6 +16,9 @@ public class DataGenerator {
         if (size == 0){
             return new long[0];
         }
+        if (inputType.toLowerCase().startsWith("random_signs:")) {
+            return generateRandomSignsArray(size, positiveProbability(inputType));
+        }
         return switch (inputType.toLowerCase()) {
             case "random" -> generateRandomArray(size);
             case "sorted" -> generateSortedArray(size);
@@ -18,7 +26,35 @@ public class DataGenerator {
             case "all_positive" -> generateAllPositiveArray(size);
             case "all_negative" -> generateAllNegativeArray(size);
             case "nearly_sorted" -> generateNearlySortedArray(size);
+            case "alternating_signs" -> generateAlternatingSignsArray(size);
+            case "random_signs" -> generateRandomSignsArray(size, 0.5);
             default -> throw new IllegalArgumentException("Unknown input type: " + inputType);
         };
     }
-}
\ No newline at end of file
+
+    // fills the whole buffer with the given distribution, same values as generateArray(buffer.length, inputType)
+    public static void fillArray(long[] buffer, String inputType) {
+        if (buffer == null) throw new IllegalArgumentException("buffer must not be null");
+        if (inputType == null) throw new IllegalArgumentException("inputType must not be null");
+        if (inputType.toLowerCase().startsWith("random_signs:")) {
+            fillRandomSignsArray(buffer, positiveProbability(inputType));
+            return;
+        }
+        switch (inputType.toLowerCase()) {
+            case "random" -> fillRandomArray(buffer);
+            case "sorted" -> fillSortedArray(buffer);
+            case "reverse_sorted" -> fillReverseSortedArray(buffer);
+            case "all_positive" -> fillAllPositiveArray(buffer);
+            case "all_negative" -> fillAllNegativeArray(buffer);
+            case "nearly_sorted" -> fillNearlySortedArray(buffer);
+            case "alternating_signs" -> fillAlternatingSignsArray(buffer);
+            case "random_signs" -> fillRandomSignsArray(buffer, 0.5);
+            default -> throw new IllegalArgumentException("Unknown input type: " + inputType);
+        }
+    }
+
+    // lazy dataset of any length, values computed on demand from (inputType, seed, index); see ParallelDataGenerator
+    public static LongSource virtual(long size, String inputType, long seed) {
+        return new ParallelDataGenerator(inputType, size, seed);
+    }
+}
@@ -0,0 +1,619 @@
+package cli;
+
+import algorithms.Kadane;
+import algorithms.KadaneBatch;
+import algorithms.KadaneResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import metrics.ConcurrentPerformanceTracker;
+import metrics.LatencyHistogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded HTTP query service for Kadane's algorithm ({@code com.sun.net.httpserver}).
+ * <p>
+ * {@code POST /kadane} takes one long array, either as a packed JSON array ({@code [1,-2,3]}) or as
+ * little-endian int64 values with {@code Content-Type: application/octet-stream}, and answers
+ * {@code {"maxSum":..,"startIndex":..,"endIndex":..}} exactly as {@link Kadane#run(long[])} reports it.
+ * {@code GET /stats} returns the service counters as JSON.
+ * <p>
+ * Handler threads only parse the body and offer the request to a bounded admission queue; when the
+ * queue is full, or the arrays already queued would exceed the queued byte limit, the request is
+ * answered with 503 and {@code Retry-After} instead of piling up. An array larger than the whole
+ * byte limit is answered with 413. One batching thread drains the queue: everything waiting (up to
+ * the batch limit) is processed together, small arrays packed into one {@link KadaneBatch} call, so
+ * batches grow with the load and a lone request is not delayed. Responses are written back on the
+ * handler pool, no thread waits for a result. Kernel time and scanned values go to a
+ * {@link ConcurrentPerformanceTracker}, the latency from admission until the response is ready to a
+ * {@link LatencyHistogram}.
+ */
+public final class KadaneServer implements Closeable {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH = 64;
+    // parsed arrays waiting in the queue; 256 MiB holds the largest array a JSON body can carry
+    public static final long DEFAULT_MAX_QUEUED_BYTES = 256L << 20;
+    // bodies above this size are rejected with 413
+    public static final int MAX_BODY_BYTES = 64 << 20;
+    // arrays up to this length are packed into the batch, longer ones are scanned in place
+    static final int PACKED_MAX_LENGTH = 4096;
+    private static final long POLL_MS = 100;
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final BlockingQueue<Request> admission;
+    private final int maxBatch;
+    private final long maxQueuedBytes;
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final Thread batcher;
+    private volatile boolean running = true;
+    // held by the batching thread while it takes and processes a batch
+    private final ReentrantLock batchLock = new ReentrantLock();
+
+    private final ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRequests = new LongAdder();
+    private final long startNs = System.nanoTime();
+
+    // batch buffers, owned by the batching thread
+    private long[] packed = new long[PACKED_MAX_LENGTH];
+    private final int[] offsets;
+    private final long[] sums;
+    private final int[] starts;
+    private final int[] ends;
+
+    private KadaneServer(HttpServer server, ExecutorService handlers, int queueCapacity, int maxBatch,
+                         long maxQueuedBytes) {
+        this.server = server;
+        this.handlers = handlers;
+        this.admission = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.offsets = new int[maxBatch + 1];
+        this.sums = new long[maxBatch];
+        this.starts = new int[maxBatch];
+        this.ends = new int[maxBatch];
+        this.batcher = new Thread(this::batchLoop, "kadane-batcher");
+        this.batcher.setDaemon(true);
+    }
+
+    public static KadaneServer start(int port) throws IOException {
+        return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                Math.max(2, Runtime.getRuntime().availableProcessors()), DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    // port 0 picks a free port, see getPort()
+    public static KadaneServer start(InetSocketAddress address, int threads, int queueCapacity, int maxBatch)
+            throws IOException {
+        return start(address, threads, queueCapacity, maxBatch, DEFAULT_MAX_QUEUED_BYTES);
+    }
+
+    // maxQueuedBytes: limit on the arrays (8 bytes per value) waiting in the admission queue
+    public static KadaneServer start(InetSocketAddress address, int threads, int queueCapacity, int maxBatch,
+                                     long maxQueuedBytes) throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("Address is null");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxQueuedBytes <= 0) {
+            throw new IllegalArgumentException("Queued byte limit must be positive");
+        }
+        HttpServer server = HttpServer.create(address, 0);
+        // Java 17: a fixed pool of platform threads; handlers never block on a result, so it stays small
+        ExecutorService handlers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "kadane-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        KadaneServer service = new KadaneServer(server, handlers, queueCapacity, maxBatch, maxQueuedBytes);
+        server.createContext("/kadane", service::handleQuery);
+        server.createContext("/stats", service::handleStats);
+        server.setExecutor(handlers);
+        service.batcher.start();
+        server.start();
+        return service;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // kernel time (timeNs, one timed run per batch or unpacked array) and scanned values (arrayAccesses)
+    public ConcurrentPerformanceTracker getTracker() {
+        return tracker;
+    }
+
+    // copy of the latency histogram (admission until the response is ready)
+    public LatencyHistogram getLatency() {
+        LatencyHistogram copy = new LatencyHistogram();
+        synchronized (latency) {
+            copy.add(latency);
+        }
+        return copy;
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+    public long getCompleted() {
+        return completed.sum();
+    }
+    // 503 answers (queue or queued bytes full, or shutting down)
+    public long getRejected() {
+        return rejected.sum();
+    }
+    // 400 and 413 answers: malformed or oversized bodies and arrays
+    public long getInvalid() {
+        return invalid.sum();
+    }
+    // KadaneBatch calls, and the requests answered by them
+    public long getBatches() {
+        return batches.sum();
+    }
+    public long getBatchedRequests() {
+        return batchedRequests.sum();
+    }
+    public int getQueued() {
+        return admission.size();
+    }
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    // completed requests per second since start
+    public double getThroughput() {
+        double seconds = (System.nanoTime() - startNs) / 1e9;
+        return seconds <= 0 ? 0 : completed.sum() / seconds;
+    }
+
+    // test hook: while held, the batching thread takes no new batch
+    ReentrantLock batchLock() {
+        return batchLock;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        running = false;
+        batcher.interrupt();
+        try {
+            batcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Request request;
+        while ((request = admission.poll()) != null) {
+            release(request);
+            request.exchange.close();
+        }
+        handlers.shutdownNow();
+    }
+
+    private void handleQuery(HttpExchange exchange) throws IOException {
+        if (!"/kadane".equals(exchange.getRequestURI().getPath())) {
+            sendError(exchange, 404, "Not found");
+            return;
+        }
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendError(exchange, 405, "Use POST");
+            return;
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean binary = contentType != null && contentType.startsWith("application/octet-stream");
+        if (!binary && contentType != null && !contentType.startsWith("application/json")) {
+            sendError(exchange, 415, "Content-Type must be application/json or application/octet-stream");
+            return;
+        }
+        long[] values;
+        try {
+            byte[] body = readBody(exchange);
+            if (body == null) {
+                invalid.increment();
+                sendError(exchange, 413, "Body larger than " + MAX_BODY_BYTES + " bytes");
+                return;
+            }
+            values = binary ? parseBinary(body) : parseJson(body);
+        } catch (IllegalArgumentException e) {
+            invalid.increment();
+            sendError(exchange, 400, e.getMessage());
+            return;
+        }
+        long bytes = (long) values.length * Long.BYTES;
+        if (bytes > maxQueuedBytes) {
+            invalid.increment();
+            sendError(exchange, 413, "Array larger than the queue limit of " + maxQueuedBytes + " bytes");
+            return;
+        }
+        Request request = new Request(exchange, values, System.nanoTime());
+        if (!running || !reserve(bytes)) {
+            rejected.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "Admission queue full");
+            return;
+        }
+        if (!admission.offer(request)) {
+            queuedBytes.addAndGet(-bytes);
+            rejected.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "Admission queue full");
+            return;
+        }
+        // close() may have cleared running and drained the queue after the check above: withdraw
+        // the request if it is still queued; if not, the batcher or close() already handled it
+        if (!running && admission.remove(request)) {
+            release(request);
+            rejected.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "Server shutting down");
+            return;
+        }
+        admitted.increment();
+    }
+
+    // false (nothing reserved) when the bytes do not fit under maxQueuedBytes
+    private boolean reserve(long bytes) {
+        if (queuedBytes.addAndGet(bytes) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    private void release(Request request) {
+        queuedBytes.addAndGet(-(long) request.values.length * Long.BYTES);
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "GET");
+            sendError(exchange, 405, "Use GET");
+            return;
+        }
+        LatencyHistogram snapshot = getLatency();
+        String json = String.format(Locale.ROOT,
+                "{\"admitted\":%d,\"completed\":%d,\"rejected\":%d,\"invalid\":%d,\"queued\":%d,\"queuedBytes\":%d,"
+                        + "\"batches\":%d,\"batchedRequests\":%d,\"values\":%d,\"kernelNs\":%d,"
+                        + "\"requestsPerSecond\":%.1f,\"latencyNs\":{\"mean\":%.0f,\"p50\":%d,\"p99\":%d,"
+                        + "\"p99.9\":%d,\"max\":%d}}",
+                getAdmitted(), getCompleted(), getRejected(), getInvalid(), getQueued(), getQueuedBytes(),
+                getBatches(), getBatchedRequests(), tracker.getArrayAccesses(), tracker.getTimeNs(),
+                getThroughput(), snapshot.getMean(),
+                snapshot.getCount() == 0 ? 0 : snapshot.getValueAtPercentile(50),
+                snapshot.getCount() == 0 ? 0 : snapshot.getValueAtPercentile(99),
+                snapshot.getCount() == 0 ? 0 : snapshot.getValueAtPercentile(99.9),
+                snapshot.getMax());
+        send(exchange, 200, json);
+    }
+
+    private void batchLoop() {
+        List<Request> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            batchLock.lock();
+            try {
+                Request first = admission.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                admission.drainTo(batch, maxBatch - 1);
+                for (Request request : batch) {
+                    release(request);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                // close(): running is false now
+            } catch (RuntimeException e) {
+                // answer the rest of the batch instead of leaving its clients hanging
+                for (Request request : batch) {
+                    if (request.answered) {
+                        continue;
+                    }
+                    respond(request, 500, "{\"error\":" + quote(String.valueOf(e.getMessage())) + "}");
+                }
+            } finally {
+                batch.clear();
+                batchLock.unlock();
+            }
+        }
+    }
+
+    // one request is scanned directly; otherwise short arrays are packed into one KadaneBatch call
+    private void process(List<Request> batch) {
+        int count = 0;
+        int length = 0;
+        for (Request request : batch) {
+            if (batch.size() == 1 || request.values.length > PACKED_MAX_LENGTH) {
+                tracker.startTimer();
+                KadaneResult result = Kadane.run(request.values);
+                tracker.stopTimer();
+                tracker.incrementArrayAccesses(request.values.length);
+                respond(request, result);
+                continue;
+            }
+            if (length + request.values.length > packed.length) {
+                packed = Arrays.copyOf(packed, Math.max(packed.length * 2, length + request.values.length));
+            }
+            System.arraycopy(request.values, 0, packed, length, request.values.length);
+            offsets[count] = length;
+            length += request.values.length;
+            request.slot = count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        offsets[count] = length;
+        tracker.startTimer();
+        KadaneBatch.run(packed, Arrays.copyOf(offsets, count + 1), sums, starts, ends);
+        tracker.stopTimer();
+        tracker.incrementArrayAccesses(length);
+        batches.increment();
+        batchedRequests.add(count);
+        for (Request request : batch) {
+            if (request.slot >= 0) {
+                respond(request, new KadaneResult(sums[request.slot], starts[request.slot], ends[request.slot]));
+            }
+        }
+    }
+
+    private void respond(Request request, KadaneResult result) {
+        respond(request, 200, "{\"maxSum\":" + result.maxSum() + ",\"startIndex\":" + result.startIndex()
+                + ",\"endIndex\":" + result.endIndex() + "}");
+    }
+
+    // the response is written on the handler pool so a slow client cannot hold up the batching thread
+    private void respond(Request request, int status, String json) {
+        request.answered = true;
+        try {
+            handlers.execute(() -> {
+                // counted before the write, so a client that has its answer also sees it in the counters
+                long elapsed = System.nanoTime() - request.admittedNs;
+                synchronized (latency) {
+                    latency.record(Math.max(0, elapsed));
+                }
+                completed.increment();
+                try {
+                    send(request.exchange, status, json);
+                } catch (IOException e) {
+                    // client went away
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            request.exchange.close();
+        }
+    }
+
+    // null when the body exceeds MAX_BODY_BYTES
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Content-Length");
+        try (InputStream in = exchange.getRequestBody()) {
+            if (header != null) {
+                long length;
+                try {
+                    length = Long.parseLong(header.trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid Content-Length");
+                }
+                if (length > MAX_BODY_BYTES) {
+                    return null;
+                }
+                byte[] body = in.readNBytes((int) length);
+                if (body.length != length) {
+                    throw new IllegalArgumentException("Body shorter than Content-Length");
+                }
+                return body;
+            }
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            return body.length > MAX_BODY_BYTES ? null : body;
+        }
+    }
+
+    // little-endian int64 values
+    static long[] parseBinary(byte[] body) {
+        if (body.length % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Binary body length " + body.length + " is not a multiple of " + Long.BYTES);
+        }
+        long[] values = new long[body.length / Long.BYTES];
+        ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(values);
+        return values;
+    }
+
+    /*
+      Parses a JSON array of integers ([1, -2, 3]) straight from the bytes: the commas are counted
+      first to size the result, then each value is accumulated digit by digit (negated, so
+      Long.MIN_VALUE fits). Fractions, exponents, strings and values outside the long range are rejected.
+    */
+    static long[] parseJson(byte[] body) {
+        int p = skipWhitespace(body, 0);
+        if (p == body.length || body[p] != '[') {
+            throw new IllegalArgumentException("Expected a JSON array at byte " + p);
+        }
+        p = skipWhitespace(body, p + 1);
+        if (p < body.length && body[p] == ']') {
+            if (skipWhitespace(body, p + 1) != body.length) {
+                throw new IllegalArgumentException("Unexpected content after the array at byte " + (p + 1));
+            }
+            return new long[0];
+        }
+        int count = 1;
+        for (int i = p; i < body.length; i++) {
+            if (body[i] == ',') {
+                count++;
+            }
+        }
+        long[] values = new long[count];
+        for (int n = 0; ; n++) {
+            int valueStart = p;
+            boolean negative = p < body.length && body[p] == '-';
+            if (negative) {
+                p++;
+            }
+            int digitsStart = p;
+            long value = 0;
+            try {
+                while (p < body.length && body[p] >= '0' && body[p] <= '9') {
+                    value = Math.subtractExact(Math.multiplyExact(value, 10), body[p] - '0');
+                    p++;
+                }
+                if (!negative) {
+                    value = Math.negateExact(value);
+                }
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Value out of long range at byte " + valueStart);
+            }
+            if (p == digitsStart) {
+                throw new IllegalArgumentException("Expected an integer at byte " + valueStart);
+            }
+            values[n] = value;
+            p = skipWhitespace(body, p);
+            if (p == body.length) {
+                throw new IllegalArgumentException("Unterminated array");
+            }
+            if (body[p] == ']') {
+                if (n != count - 1 || skipWhitespace(body, p + 1) != body.length) {
+                    throw new IllegalArgumentException("Unexpected content after the array at byte " + (p + 1));
+                }
+                return values;
+            }
+            if (body[p] != ',') {
+                throw new IllegalArgumentException("Expected ',' or ']' at byte " + p);
+            }
+            p = skipWhitespace(body, p + 1);
+        }
+    }
+
+    private static int skipWhitespace(byte[] body, int p) {
+        while (p < body.length && (body[p] == ' ' || body[p] == '\n' || body[p] == '\r' || body[p] == '\t')) {
+            p++;
+        }
+        return p;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, "{\"error\":" + quote(message) + "}");
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static final class Request {
+        final HttpExchange exchange;
+        final long[] values;
+        final long admittedNs;
+        // index in the packed batch, -1 when scanned on its own
+        int slot = -1;
+        // set by the batching thread once a response is handed to the handler pool
+        boolean answered = false;
+
+        Request(HttpExchange exchange, long[] values, long admittedNs) {
+            this.exchange = exchange;
+            this.values = values;
+            this.admittedNs = admittedNs;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        int port = DEFAULT_PORT;
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        int maxBatch = DEFAULT_MAX_BATCH;
+        long maxQueuedBytes = DEFAULT_MAX_QUEUED_BYTES;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException(args[i] + " requires a value");
+                }
+                switch (args[i]) {
+                    case "--host":
+                        host = args[++i];
+                        break;
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--queue":
+                        queueCapacity = Integer.parseInt(args[++i]);
+                        break;
+                    case "--max-batch":
+                        maxBatch = Integer.parseInt(args[++i]);
+                        break;
+                    case "--queue-mb":
+                        maxQueuedBytes = Long.parseLong(args[++i]) << 20;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Usage: KadaneServer [--host <addr>] [--port <n>] [--threads <n>] [--queue <n>] [--max-batch <n>]"
+                    + " [--queue-mb <n>]");
+            System.exit(1);
+        }
+        KadaneServer service = start(new InetSocketAddress(host, port), threads, queueCapacity, maxBatch,
+                maxQueuedBytes);
+        Runtime.getRuntime().addShutdownHook(new Thread(service::close));
+        System.out.println("Kadane server on http://" + host + ":" + service.getPort()
+                + "/kadane (threads=" + threads + ", queue=" + queueCapacity + ", maxBatch=" + maxBatch
+                + ", queueMb=" + (maxQueuedBytes >> 20) + ")");
+    }
+}
@@ -0,0 +1,346 @@
+package cli;
+
+import algorithms.KadaneSummary;
+import algorithms.LongKadaneResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Spreads one file scan over several local worker JVMs (separate heaps, one per NUMA node if wanted).
+ * <p>
+ * {@link #start} launches {@link ShardWorker} processes that connect back over a loopback socket.
+ * {@link #summarize} cuts the file into byte ranges (several per worker, binary ranges aligned to
+ * 8 bytes). Each worker thread hands out the next range, the worker returns the compact
+ * {@link KadaneSummary} of it (relative offsets, 80 bytes), and the summaries are merged in file order.
+ * If a worker dies (its connection closes), sends a malformed reply or does not answer a range within
+ * the range timeout, it is killed, the range it held goes back to the queue and the remaining workers
+ * take it; the scan fails only when no worker is left or the input itself is invalid.
+ * Workers stay up between scans until {@link #close}.
+ */
+public final class ShardCoordinator implements Closeable {
+    // protocol: worker hello, coordinator commands, worker replies
+    static final int MAGIC = 0x4B534831; // "KSH1"
+    static final byte SCAN = 1;
+    static final byte STOP = 2;
+    static final byte OK = 1;
+    static final byte FAILED = 2;
+    // fault injection: the worker with this id halts when it receives its first range
+    static final String FAIL_WORKER_PROPERTY = "kadane.shard.failWorker";
+    // fault injection: the worker with this id stops answering when it receives its first range
+    static final String HANG_WORKER_PROPERTY = "kadane.shard.hangWorker";
+
+    public static final int RANGES_PER_WORKER = 4;
+    // default time a worker may take for one range before it is considered hung
+    public static final int DEFAULT_RANGE_TIMEOUT_MS = 10 * 60_000;
+    private static final int CONNECT_TIMEOUT_MS = 60_000;
+
+    public enum Format { TEXT, BINARY }
+
+    private final ServerSocket server;
+    private final List<Worker> workers = new ArrayList<>();
+    private final int chunkBytes;
+    private int rangeTimeoutMs = DEFAULT_RANGE_TIMEOUT_MS;
+
+    private ShardCoordinator(ServerSocket server, int chunkBytes) {
+        this.server = server;
+        this.chunkBytes = chunkBytes;
+    }
+
+    public static ShardCoordinator start(int workerCount, List<String> jvmArgs) throws IOException {
+        return start(workerCount, jvmArgs, ShardWorker.DEFAULT_CHUNK_BYTES);
+    }
+
+    // chunkBytes: mapping size used inside each worker
+    public static ShardCoordinator start(int workerCount, List<String> jvmArgs, int chunkBytes) throws IOException {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        if (chunkBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Chunk size must be at least " + Long.BYTES + " bytes");
+        }
+        ServerSocket server = new ServerSocket(0, workerCount, InetAddress.getLoopbackAddress());
+        ShardCoordinator coordinator = new ShardCoordinator(server, chunkBytes);
+        // launched processes that have not connected yet
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (int id = 0; id < workerCount; id++) {
+                List<String> command = new ArrayList<>();
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                command.addAll(jvmArgs == null ? List.of() : jvmArgs);
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(ShardWorker.class.getName());
+                command.add(Integer.toString(server.getLocalPort()));
+                command.add(Integer.toString(id));
+                processes.add(new ProcessBuilder(command)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+            server.setSoTimeout(CONNECT_TIMEOUT_MS);
+            for (int i = 0; i < workerCount; i++) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    throw new IOException("Only " + i + " of " + workerCount + " workers connected", e);
+                }
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                if (in.readInt() != MAGIC) {
+                    socket.close();
+                    throw new IOException("Unexpected connection on the coordinator port");
+                }
+                int id = in.readInt();
+                if (id < 0 || id >= workerCount || processes.get(id) == null) {
+                    socket.close();
+                    throw new IOException("Unexpected worker id " + id);
+                }
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                coordinator.workers.add(new Worker(id, processes.set(id, null), socket, in, out));
+            }
+        } catch (IOException | RuntimeException e) {
+            coordinator.close();
+            for (Process process : processes) {
+                if (process != null) {
+                    process.destroyForcibly();
+                }
+            }
+            throw e;
+        }
+        return coordinator;
+    }
+
+    public synchronized int getLiveWorkers() {
+        return workers.size();
+    }
+
+    public synchronized int getRangeTimeoutMs() {
+        return rangeTimeoutMs;
+    }
+
+    // applies from the next range on
+    public synchronized void setRangeTimeoutMs(int rangeTimeoutMs) {
+        if (rangeTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Range timeout must be positive");
+        }
+        this.rangeTimeoutMs = rangeTimeoutMs;
+    }
+
+    public synchronized LongKadaneResult scan(Path file, Format format) throws IOException {
+        return summarize(file, format, workers.size() * RANGES_PER_WORKER).toLongKadaneResult();
+    }
+
+    // summary of the whole file (offset 0, length = number of values), from `ranges` byte ranges
+    public synchronized KadaneSummary summarize(Path file, Format format, int ranges) throws IOException {
+        if (file == null || format == null) {
+            throw new IllegalArgumentException("File and format are required");
+        }
+        if (ranges <= 0) {
+            throw new IllegalArgumentException("Range count must be positive");
+        }
+        long size = Files.size(file);
+        if (format == Format.BINARY && size % Long.BYTES != 0) {
+            throw new IllegalArgumentException("File size " + size + " is not a multiple of " + Long.BYTES + " bytes");
+        }
+        long[] bounds = bounds(size, ranges, format == Format.BINARY ? Long.BYTES : 1);
+        String path = file.toAbsolutePath().toString();
+        int timeoutMs = rangeTimeoutMs;
+
+        KadaneSummary[] results = new KadaneSummary[bounds.length - 1];
+        ConcurrentLinkedQueue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int r = 0; r < results.length; r++) {
+            pending.add(r);
+        }
+        AtomicReference<String> inputError = new AtomicReference<>();
+
+        // rounds: a range requeued after the other threads finished is picked up by the next round
+        while (!pending.isEmpty() && inputError.get() == null) {
+            if (workers.isEmpty()) {
+                throw new IOException("All workers failed, " + pending.size() + " of " + results.length
+                        + " ranges unfinished");
+            }
+            List<Thread> threads = new ArrayList<>();
+            List<Worker> failed = new ArrayList<>();
+            for (Worker worker : workers) {
+                Thread thread = new Thread(() -> {
+                    Integer range;
+                    while (inputError.get() == null && (range = pending.poll()) != null) {
+                        try {
+                            results[range] = worker.scan(path, format, bounds[range], bounds[range + 1], chunkBytes,
+                                    timeoutMs);
+                        } catch (InvalidInputException e) {
+                            inputError.compareAndSet(null, e.getMessage());
+                        } catch (IOException | RuntimeException e) {
+                            // worker crashed, hung past the timeout or sent a malformed reply: hand the range to the others
+                            pending.add(range);
+                            synchronized (failed) {
+                                failed.add(worker);
+                            }
+                            return;
+                        }
+                    }
+                }, "shard-worker-" + worker.id);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for workers", e);
+                }
+            }
+            for (Worker worker : failed) {
+                worker.kill();
+                workers.remove(worker);
+            }
+        }
+        if (inputError.get() != null) {
+            throw new IllegalArgumentException(inputError.get());
+        }
+
+        KadaneSummary merged = results[0];
+        for (int r = 1; r < results.length; r++) {
+            merged = merged.merge(results[r].withOffset(merged.length()));
+        }
+        return merged;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Worker worker : workers) {
+            worker.stop();
+        }
+        workers.clear();
+        try {
+            server.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+
+    // ranges + 1 increasing byte positions from 0 to size, interior ones multiples of `align`
+    static long[] bounds(long size, int ranges, int align) {
+        long units = size / align;
+        int count = (int) Math.max(1, Math.min(ranges, units));
+        long[] bounds = new long[count + 1];
+        for (int r = 1; r < count; r++) {
+            bounds[r] = units * r / count * align;
+        }
+        bounds[count] = size;
+        return bounds;
+    }
+
+    static void writeSummary(DataOutput out, KadaneSummary s) throws IOException {
+        for (long value : new long[]{s.offset(), s.length(), s.total(), s.prefixSum(), s.prefixEnd(),
+                s.suffixSum(), s.suffixStart(), s.bestSum(), s.bestStart(), s.bestEnd()}) {
+            out.writeLong(value);
+        }
+    }
+
+    static KadaneSummary readSummary(DataInput in) throws IOException {
+        long[] v = new long[10];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = in.readLong();
+        }
+        return new KadaneSummary(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+    }
+
+    // the worker rejected its range (malformed input): retrying elsewhere would fail the same way
+    private static final class InvalidInputException extends IOException {
+        InvalidInputException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Worker {
+        final int id;
+        final Process process;
+        final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+
+        Worker(int id, Process process, Socket socket, DataInputStream in, DataOutputStream out) {
+            this.id = id;
+            this.process = process;
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+
+        KadaneSummary scan(String path, Format format, long from, long to, int chunkBytes, int timeoutMs)
+                throws IOException {
+            socket.setSoTimeout(timeoutMs);
+            out.writeByte(SCAN);
+            out.writeUTF(path);
+            out.writeByte(format.ordinal());
+            out.writeLong(from);
+            out.writeLong(to);
+            out.writeInt(chunkBytes);
+            out.flush();
+            byte status = in.readByte();
+            if (status == FAILED) {
+                throw new InvalidInputException(in.readUTF());
+            }
+            if (status != OK) {
+                throw new IOException("Unexpected reply " + status + " from worker " + id);
+            }
+            return readSummary(in);
+        }
+
+        void stop() {
+            try {
+                out.writeByte(STOP);
+                out.flush();
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            } finally {
+                closeSocket();
+            }
+        }
+
+        void kill() {
+            process.destroyForcibly();
+            closeSocket();
+        }
+
+        private void closeSocket() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardCoordinator [port=" + server.getLocalPort() + ", liveWorkers=" + getLiveWorkers()
+                + ", chunkBytes=" + chunkBytes + "]";
+    }
+}
@@ -0,0 +1,103 @@
+package cli;
+
+import algorithms.KadaneFileEngine;
+import algorithms.KadaneSummary;
+import algorithms.KadaneTextEngine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Worker process started by {@link ShardCoordinator}: {@code ShardWorker <port> <id>}.
+ * <p>
+ * Connects to the coordinator on the loopback interface, then answers SCAN commands with the
+ * {@link KadaneSummary} of the byte range (text via {@link KadaneTextEngine}, little-endian int64 via
+ * {@link KadaneFileEngine}), offsets relative to the first value of the range. The last file stays
+ * open between commands. Exits on STOP or when the coordinator goes away.
+ */
+public final class ShardWorker {
+    public static final int DEFAULT_CHUNK_BYTES = KadaneTextEngine.DEFAULT_CHUNK_BYTES;
+
+    private ShardWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ShardWorker <coordinator port> <worker id>");
+            System.exit(1);
+        }
+        int port = Integer.parseInt(args[0]);
+        int id = Integer.parseInt(args[1]);
+        boolean failOnFirstRange = Integer.toString(id).equals(System.getProperty(ShardCoordinator.FAIL_WORKER_PROPERTY));
+        boolean hangOnFirstRange = Integer.toString(id).equals(System.getProperty(ShardCoordinator.HANG_WORKER_PROPERTY));
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(ShardCoordinator.MAGIC);
+            out.writeInt(id);
+            out.flush();
+
+            String openPath = null;
+            FileChannel channel = null;
+            try {
+                while (in.readByte() == ShardCoordinator.SCAN) {
+                    String path = in.readUTF();
+                    ShardCoordinator.Format format = ShardCoordinator.Format.values()[in.readByte()];
+                    long from = in.readLong();
+                    long to = in.readLong();
+                    int chunkBytes = in.readInt();
+                    if (failOnFirstRange) {
+                        // simulated crash: no reply, no cleanup
+                        Runtime.getRuntime().halt(3);
+                    }
+                    if (hangOnFirstRange) {
+                        // simulated hang: connection stays open, no reply
+                        hang();
+                    }
+                    KadaneSummary summary;
+                    try {
+                        if (!path.equals(openPath)) {
+                            if (channel != null) {
+                                channel.close();
+                            }
+                            channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+                            openPath = path;
+                        }
+                        summary = format == ShardCoordinator.Format.TEXT
+                                ? KadaneTextEngine.summarize(channel, from, to, chunkBytes)
+                                : KadaneFileEngine.summarize(channel, from / Long.BYTES, to / Long.BYTES, chunkBytes)
+                                        .withOffset(0);
+                    } catch (IOException | IllegalArgumentException e) {
+                        out.writeByte(ShardCoordinator.FAILED);
+                        out.writeUTF("Worker " + id + ", bytes [" + from + ", " + to + ") of " + path + ": " + e.getMessage());
+                        out.flush();
+                        continue;
+                    }
+                    out.writeByte(ShardCoordinator.OK);
+                    ShardCoordinator.writeSummary(out, summary);
+                    out.flush();
+                }
+            } finally {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    private static void hang() {
+        while (true) {
+            LockSupport.park();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package metrics;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/*
+  Buffered, single-handle CSV metrics writer with a background flusher.
+  - The file is opened once (one FileChannel) instead of once per row.
+  - Rows are formatted straight into a reused byte buffer (no String.format); full buffers go
+    to a background thread through a bounded queue and come back through a free list, so a
+    slow disk blocks appendLine (backpressure) instead of growing memory.
+  - Output is byte-identical to MetricsCsvWriter: same HEADER, same columns, same line separator.
+  - flush() waits until everything appended so far is written; close() flushes and closes.
+  Meant for one producer thread; I/O errors from the background thread are rethrown on the
+  next appendLine, flush or close.
+*/
+public class AsyncMetricsCsvWriter implements Closeable, Flushable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER_BYTES = MetricsCsvWriter.HEADER.getBytes(StandardCharsets.UTF_8);
+    // queue marker: the flusher forces the channel and signals when it reaches it
+    private static final ByteBuffer FLUSH_MARKER = ByteBuffer.allocate(0);
+    private static final ByteBuffer CLOSE_MARKER = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final BlockingQueue<ByteBuffer> filled;
+    private final BlockingQueue<ByteBuffer> free;
+    private final Thread flusher;
+    private final byte[] digits = new byte[20];
+    private final int bufferSize;
+
+    private ByteBuffer current;
+    private long submitted = 0;        // markers and buffers handed to the flusher
+    private long completed = 0;        // guarded by this
+    private volatile IOException failure;
+    private boolean closed = false;
+
+    public AsyncMetricsCsvWriter(File file, boolean append) throws IOException {
+        this(file, append, DEFAULT_BUFFER_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AsyncMetricsCsvWriter(File file, boolean append, int bufferSize, int queueCapacity) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null");
+        }
+        if (bufferSize < 256 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer size must be at least 256 bytes and queue capacity positive");
+        }
+        this.bufferSize = bufferSize;
+        channel = append
+                ? FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                : FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        // buffers plus markers must always fit in the queue
+        filled = new ArrayBlockingQueue<>(queueCapacity + 2);
+        free = new ArrayBlockingQueue<>(queueCapacity + 1);
+        for (int i = 0; i < queueCapacity; i++) {
+            free.add(ByteBuffer.allocate(bufferSize));
+        }
+        current = ByteBuffer.allocate(bufferSize);
+        flusher = new Thread(this::drain, "metrics-csv-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void writeHeader() throws IOException {
+        ensureOpen();
+        reserve(HEADER_BYTES.length + LINE_SEPARATOR.length);
+        current.put(HEADER_BYTES).put(LINE_SEPARATOR);
+    }
+
+    public void appendLine(String algorithm, String inputType, int n, int trial, PerformanceTracker tracker)
+            throws IOException {
+        appendRow(algorithm, inputType, n, trial,
+                tracker.getTimeMs(),
+                tracker.getComparisons(),
+                tracker.getArrayAccesses(),
+                tracker.getAssignments(),
+                tracker.getAdditions());
+    }
+
+    // same row from raw values, e.g. merged from a forked benchmark JVM
+    public void appendRow(String algorithm, String inputType, long n, long trial, long timeMs,
+                          long comparisons, long arrayAccesses, long assignments, long additions) throws IOException {
+        ensureOpen();
+        // worst case: two strings of UTF-8 plus nine numbers of up to 20 digits and separators
+        reserve(3 * (algorithm.length() + inputType.length()) + 9 * 21 + LINE_SEPARATOR.length);
+        putText(algorithm);
+        current.put((byte) ',');
+        putText(inputType);
+        current.put((byte) ',');
+        putLong(n);
+        current.put((byte) ',');
+        putLong(trial);
+        current.put((byte) ',');
+        putLong(timeMs);
+        current.put((byte) ',');
+        putLong(comparisons);
+        current.put((byte) ',');
+        putLong(arrayAccesses);
+        current.put((byte) ',');
+        putLong(assignments);
+        current.put((byte) ',');
+        putLong(additions);
+        current.put(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        submitCurrent();
+        submit(FLUSH_MARKER);
+        awaitCompleted();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (failure == null) {
+                submitCurrent();
+                submit(FLUSH_MARKER);
+                submit(CLOSE_MARKER);
+                awaitCompleted();
+            }
+        } finally {
+            closed = true;
+            flusher.interrupt();
+            channel.close();
+        }
+        rethrowFailure();
+    }
+
+    // makes sure the current buffer has room for the given number of bytes
+    private void reserve(int bytes) throws IOException {
+        if (current.remaining() >= bytes) {
+            return;
+        }
+        submitCurrent();
+        if (current.capacity() < bytes) {
+            // oversized row, happens only for very long algorithm/input type names
+            current = ByteBuffer.allocate(bytes);
+        }
+    }
+
+    private void submitCurrent() throws IOException {
+        if (current.position() == 0) {
+            return;
+        }
+        current.flip();
+        submit(current);
+        try {
+            current = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+        }
+        rethrowFailure();
+    }
+
+    private void submit(ByteBuffer buffer) throws IOException {
+        try {
+            filled.put(buffer);
+            submitted++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing metrics");
+        }
+    }
+
+    private synchronized void awaitCompleted() throws IOException {
+        try {
+            while (completed < submitted && failure == null) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing metrics");
+        }
+        rethrowFailure();
+    }
+
+    private synchronized void markCompleted() {
+        completed++;
+        notifyAll();
+    }
+
+    // background thread: write filled buffers in order and recycle them
+    private void drain() {
+        try {
+            while (true) {
+                ByteBuffer buffer = filled.take();
+                if (buffer == CLOSE_MARKER) {
+                    markCompleted();
+                    return;
+                }
+                if (buffer == FLUSH_MARKER) {
+                    if (failure == null) {
+                        channel.force(false);
+                    }
+                } else {
+                    while (failure == null && buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                    free.offer(buffer);
+                }
+                markCompleted();
+            }
+        } catch (IOException e) {
+            failure = e;
+            // keep the producer from blocking on an empty free list
+            free.offer(ByteBuffer.allocate(bufferSize));
+            synchronized (this) {
+                notifyAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void putText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // rare: fall back to the UTF-8 encoder for the whole string
+                current.position(current.position() - i);
+                current.put(text.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            current.put((byte) c);
+        }
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            current.put("-9223372036854775808".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        if (value < 0) {
+            current.put((byte) '-');
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        current.put(digits, pos, digits.length - pos);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw new IOException("Background metrics write failed", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package metrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/*
+  Converts metrics between the CSV format of MetricsCsvWriter and the binary columnar format.
+  - csvToColumnar(csv, binary): expects the MetricsCsvWriter.HEADER row first.
+  - columnarToCsv(binary, csv): writes the same header and row format as MetricsCsvWriter,
+    so a CSV -> binary -> CSV round trip reproduces the original file.
+*/
+public class ColumnarMetricsConverter {
+
+    public static long csvToColumnar(File csv, File binary) throws IOException {
+        long rows = 0;
+        try (BufferedReader in = new BufferedReader(new FileReader(csv));
+             ColumnarMetricsWriter out = new ColumnarMetricsWriter(binary)) {
+            String header = in.readLine();
+            if (!MetricsCsvWriter.HEADER.equals(header)) {
+                throw new IOException("Unexpected CSV header: " + header);
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] f = line.split(",", -1);
+                if (f.length != ColumnarMetricsWriter.COLUMNS.length) {
+                    throw new IOException("Expected " + ColumnarMetricsWriter.COLUMNS.length
+                            + " fields in row " + (rows + 1) + ": " + line);
+                }
+                try {
+                    out.appendRow(f[0], f[1],
+                            Long.parseLong(f[2]), Long.parseLong(f[3]), Long.parseLong(f[4]),
+                            Long.parseLong(f[5]), Long.parseLong(f[6]), Long.parseLong(f[7]), Long.parseLong(f[8]));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid number in row " + (rows + 1) + ": " + line, e);
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    public static long columnarToCsv(File binary, File csv) throws IOException {
+        try (ColumnarMetricsReader in = new ColumnarMetricsReader(binary);
+             BufferedWriter out = new BufferedWriter(new FileWriter(csv, false), 1 << 16)) {
+            out.write(MetricsCsvWriter.HEADER);
+            out.newLine();
+            StringBuilder line = new StringBuilder(128);
+            in.forEachRow((algorithm, inputType, n, trial, timeMs, comparisons, arrayAccesses, assignments, additions) -> {
+                line.setLength(0);
+                line.append(algorithm).append(',').append(inputType).append(',')
+                        .append(n).append(',').append(trial).append(',').append(timeMs).append(',')
+                        .append(comparisons).append(',').append(arrayAccesses).append(',')
+                        .append(assignments).append(',').append(additions);
+                out.append(line);
+                out.newLine();
+            });
+            return in.getRowCount();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package metrics;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/*
+  Streaming reader for files written by ColumnarMetricsWriter.
+  - Each row group is memory-mapped on its own, so files larger than 2 GB work.
+  - forEachValue / aggregate decode a single numeric column: the other columns of a group
+    are skipped using their byte lengths, never decoded.
+  - forEachRow decodes whole groups for conversion back to CSV.
+*/
+public class ColumnarMetricsReader implements Closeable {
+    private final FileChannel channel;
+    private final String[] algorithmDictionary;
+    private final String[] inputTypeDictionary;
+    private final long[] groupOffsets;       // plus the footer offset as the last entry
+    private final int[] groupRows;
+    private final long totalRows;
+
+    // one decoded row, reused between callbacks
+    public interface RowConsumer {
+        void accept(String algorithm, String inputType, long n, long trial, long timeMs,
+                    long comparisons, long arrayAccesses, long assignments, long additions) throws IOException;
+    }
+
+    public record ColumnSummary(long count, long sum, long min, long max) {
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+
+    public ColumnarMetricsReader(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null");
+        }
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 24) {
+                throw new IOException("Not a columnar metrics file (too short): " + file);
+            }
+            ByteBuffer head = ByteBuffer.allocate(12);
+            channel.read(head, 0);
+            head.flip();
+            if (head.getInt() != ColumnarMetricsWriter.MAGIC || head.getInt() != ColumnarMetricsWriter.VERSION
+                    || head.getInt() != ColumnarMetricsWriter.COLUMNS.length) {
+                throw new IOException("Unsupported columnar metrics file: " + file);
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(12);
+            channel.read(trailer, size - 12);
+            trailer.flip();
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != ColumnarMetricsWriter.MAGIC) {
+                throw new IOException("Missing trailer, file was not closed properly: " + file);
+            }
+
+            InputStream footerStream = Channels.newInputStream(channel.position(footerOffset));
+            DataInputStream footer = new DataInputStream(new BufferedInputStream(footerStream));
+            algorithmDictionary = readDictionary(footer);
+            inputTypeDictionary = readDictionary(footer);
+            int groups = footer.readInt();
+            groupOffsets = new long[groups + 1];
+            groupRows = new int[groups];
+            for (int g = 0; g < groups; g++) {
+                groupOffsets[g] = footer.readLong();
+                groupRows[g] = footer.readInt();
+            }
+            groupOffsets[groups] = footerOffset;
+            totalRows = footer.readLong();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    public int getRowGroupCount() {
+        return groupRows.length;
+    }
+
+    public List<String> getAlgorithms() {
+        return List.of(algorithmDictionary);
+    }
+
+    public List<String> getInputTypes() {
+        return List.of(inputTypeDictionary);
+    }
+
+    // streams one numeric column (n, trial, time_ms, comparisons, ...) without decoding the others
+    public void forEachValue(String column, LongConsumer consumer) throws IOException {
+        int index = numericColumnIndex(column);
+        for (int g = 0; g < groupRows.length; g++) {
+            ByteBuffer group = mapGroup(g);
+            int rows = group.getInt();
+            // skip the dictionary columns and the numeric columns before this one
+            for (int c = 0; c < index + 2; c++) {
+                int length = group.getInt();
+                group.position(group.position() + length);
+            }
+            group.getInt();
+            long value = 0;
+            for (int r = 0; r < rows; r++) {
+                value += unzigzag(readVarLong(group));
+                consumer.accept(value);
+            }
+        }
+    }
+
+    public ColumnSummary aggregate(String column) throws IOException {
+        long[] stats = {0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+        forEachValue(column, v -> {
+            stats[0]++;
+            stats[1] += v;
+            stats[2] = Math.min(stats[2], v);
+            stats[3] = Math.max(stats[3], v);
+        });
+        if (stats[0] == 0) {
+            return new ColumnSummary(0, 0, 0, 0);
+        }
+        return new ColumnSummary(stats[0], stats[1], stats[2], stats[3]);
+    }
+
+    public void forEachRow(RowConsumer consumer) throws IOException {
+        int maxRows = 0;
+        for (int rows : groupRows) {
+            maxRows = Math.max(maxRows, rows);
+        }
+        int[] algorithmIds = new int[maxRows];
+        int[] inputTypeIds = new int[maxRows];
+        long[][] numeric = new long[ColumnarMetricsWriter.NUMERIC_COLUMNS][maxRows];
+
+        for (int g = 0; g < groupRows.length; g++) {
+            ByteBuffer group = mapGroup(g);
+            int rows = group.getInt();
+            for (int[] ids : new int[][]{algorithmIds, inputTypeIds}) {
+                group.getInt();
+                for (int r = 0; r < rows; r++) {
+                    ids[r] = (int) readVarLong(group);
+                }
+            }
+            for (long[] values : numeric) {
+                group.getInt();
+                long value = 0;
+                for (int r = 0; r < rows; r++) {
+                    value += unzigzag(readVarLong(group));
+                    values[r] = value;
+                }
+            }
+            for (int r = 0; r < rows; r++) {
+                consumer.accept(algorithmDictionary[algorithmIds[r]], inputTypeDictionary[inputTypeIds[r]],
+                        numeric[0][r], numeric[1][r], numeric[2][r], numeric[3][r],
+                        numeric[4][r], numeric[5][r], numeric[6][r]);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer mapGroup(int g) throws IOException {
+        long from = groupOffsets[g];
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, groupOffsets[g + 1] - from);
+    }
+
+    private static int numericColumnIndex(String column) {
+        String[] columns = ColumnarMetricsWriter.COLUMNS;
+        for (int c = 2; c < columns.length; c++) {
+            if (columns[c].equals(column)) {
+                return c - 2;
+            }
+        }
+        throw new IllegalArgumentException("Unknown numeric column: " + column
+                + " (expected one of " + Arrays.toString(Arrays.copyOfRange(columns, 2, columns.length)) + ")");
+    }
+
+    private static String[] readDictionary(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
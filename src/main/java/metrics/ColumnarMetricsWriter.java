@@ -0,0 +1,188 @@
+package metrics;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+  Binary columnar metrics file, same fields as MetricsCsvWriter.HEADER.
+  Layout (big-endian):
+    - header: MAGIC, VERSION, column count
+    - row groups of up to rowGroupSize rows: row count, then per column (HEADER order) its byte
+      length followed by the encoded values, so a reader can skip columns it does not need:
+        algorithm, input_type: dictionary ids as varints,
+        numeric columns: first value, then deltas to the previous row, zigzag varints
+    - footer: both dictionaries, group offsets and row counts, total rows
+    - trailer: footer offset and MAGIC
+  Rows are buffered in primitive arrays and encoded once per group.
+*/
+public class ColumnarMetricsWriter implements Closeable {
+    static final int MAGIC = 0x4B4D4331; // "KMC1"
+    static final int VERSION = 1;
+    static final String[] COLUMNS = MetricsCsvWriter.HEADER.split(",");
+    static final int NUMERIC_COLUMNS = COLUMNS.length - 2;
+    public static final int DEFAULT_ROW_GROUP_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+    private final Map<String, Integer> algorithms = new HashMap<>();
+    private final Map<String, Integer> inputTypes = new HashMap<>();
+    private final List<String> algorithmDictionary = new ArrayList<>();
+    private final List<String> inputTypeDictionary = new ArrayList<>();
+    private final List<long[]> groups = new ArrayList<>();   // {offset, rowCount}
+
+    private final int[] algorithmIds;
+    private final int[] inputTypeIds;
+    private final long[][] numeric;
+    private int rows = 0;
+    private long position = 0;
+    private long totalRows = 0;
+    private boolean closed = false;
+
+    public ColumnarMetricsWriter(File file) throws IOException {
+        this(file, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    public ColumnarMetricsWriter(File file, int rowGroupSize) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.rowGroupSize = rowGroupSize;
+        algorithmIds = new int[rowGroupSize];
+        inputTypeIds = new int[rowGroupSize];
+        numeric = new long[NUMERIC_COLUMNS][rowGroupSize];
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(COLUMNS.length);
+        position = 12;
+    }
+
+    public void appendLine(String algorithm, String inputType, int n, int trial, PerformanceTracker tracker)
+            throws IOException {
+        appendRow(algorithm, inputType, n, trial,
+                tracker.getTimeMs(),
+                tracker.getComparisons(),
+                tracker.getArrayAccesses(),
+                tracker.getAssignments(),
+                tracker.getAdditions());
+    }
+
+    public void appendRow(String algorithm, String inputType, long n, long trial, long timeMs,
+                          long comparisons, long arrayAccesses, long assignments, long additions) throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+        algorithmIds[rows] = idOf(algorithm, algorithms, algorithmDictionary);
+        inputTypeIds[rows] = idOf(inputType, inputTypes, inputTypeDictionary);
+        numeric[0][rows] = n;
+        numeric[1][rows] = trial;
+        numeric[2][rows] = timeMs;
+        numeric[3][rows] = comparisons;
+        numeric[4][rows] = arrayAccesses;
+        numeric[5][rows] = assignments;
+        numeric[6][rows] = additions;
+        rows++;
+        if (rows == rowGroupSize) {
+            writeGroup();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (rows > 0) {
+                writeGroup();
+            }
+            long footerOffset = position;
+            writeDictionary(algorithmDictionary);
+            writeDictionary(inputTypeDictionary);
+            out.writeInt(groups.size());
+            for (long[] group : groups) {
+                out.writeLong(group[0]);
+                out.writeInt((int) group[1]);
+            }
+            out.writeLong(totalRows);
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeGroup() throws IOException {
+        ByteArrayOutputStream group = new ByteArrayOutputStream();
+        DataOutputStream groupOut = new DataOutputStream(group);
+        groupOut.writeInt(rows);
+
+        ByteArrayOutputStream column = new ByteArrayOutputStream();
+        for (int[] ids : new int[][]{algorithmIds, inputTypeIds}) {
+            column.reset();
+            for (int r = 0; r < rows; r++) {
+                writeVarLong(column, ids[r]);
+            }
+            groupOut.writeInt(column.size());
+            column.writeTo(groupOut);
+        }
+        for (long[] values : numeric) {
+            column.reset();
+            long previous = 0;
+            for (int r = 0; r < rows; r++) {
+                long delta = values[r] - previous;
+                writeVarLong(column, (delta << 1) ^ (delta >> 63));
+                previous = values[r];
+            }
+            groupOut.writeInt(column.size());
+            column.writeTo(groupOut);
+        }
+
+        groups.add(new long[]{position, rows});
+        group.writeTo(out);
+        position += group.size();
+        totalRows += rows;
+        rows = 0;
+    }
+
+    private void writeDictionary(List<String> dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        for (String value : dictionary) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static int idOf(String value, Map<String, Integer> ids, List<String> dictionary) {
+        if (value == null) {
+            throw new IllegalArgumentException("Dictionary values must not be null");
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            ids.put(value, id);
+            dictionary.add(value);
+        }
+        return id;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
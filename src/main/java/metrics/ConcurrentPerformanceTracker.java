@@ -0,0 +1,135 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Lock-free PerformanceTracker variant for sharing one tracker across worker threads.
+  Counters:
+    - comparisons, arrayAccesses, assignments, additions are striped LongAdder cells,
+      increments never block and the getters sum the cells on read.
+  Timing:
+    - startTimer() / stopTimer() are per thread (ThreadLocal start), every stopped interval
+      is added to the total, so getTimeMs() is the summed busy time of all threads.
+  Engine:
+    - the engine of the most recent Kadane.runAuto call on any thread.
+  Reset:
+    - Kadane.run(array, tracker) calls beginRun() at the start of every run; here beginRun() only
+      clears the calling thread's timer so concurrent runs keep accumulating.
+    - reset() clears counters and time, as in PerformanceTracker; call it while no run is in flight.
+  Getters and toCsvLine keep the PerformanceTracker format, so MetricsCsvWriter works unchanged.
+*/
+public class ConcurrentPerformanceTracker extends PerformanceTracker {
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder assignments = new LongAdder();
+    private final LongAdder additions = new LongAdder();
+    private final LongAdder timeNs = new LongAdder();
+    private final LongAdder timedRuns = new LongAdder();
+    // start of the running interval per thread, 0 when no timer is running
+    private final ThreadLocal<long[]> startNs = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+    @Override
+    public long getArrayAccesses() {
+        return arrayAccesses.sum();
+    }
+    @Override
+    public long getAssignments() {
+        return assignments.sum();
+    }
+    @Override
+    public long getAdditions() {
+        return additions.sum();
+    }
+    @Override
+    public long getTimeMs() {
+        return timeNs.sum() / 1_000_000;
+    }
+    @Override
+    public long getTimeNs() {
+        return timeNs.sum();
+    }
+    // number of startTimer/stopTimer intervals recorded since reset
+    public long getTimedRuns() {
+        return timedRuns.sum();
+    }
+
+    // timer control (per thread)
+    @Override
+    public void startTimer() {
+        startNs.get()[0] = System.nanoTime();
+    }
+    @Override
+    public void stopTimer() {
+        long[] start = startNs.get();
+        if (start[0] == 0) {
+            return;
+        }
+        timeNs.add(Math.max(0, System.nanoTime() - start[0]));
+        timedRuns.increment();
+        start[0] = 0;
+    }
+
+    // counter increments (lock-free)
+    @Override
+    public void incrementComparisons() {
+        comparisons.increment();
+    }
+    @Override
+    public void incrementComparisons(long n) {
+        comparisons.add(n);
+    }
+    @Override
+    public void incrementArrayAccesses() {
+        arrayAccesses.increment();
+    }
+    @Override
+    public void incrementArrayAccesses(long n) {
+        arrayAccesses.add(n);
+    }
+    @Override
+    public void incrementAssignments() {
+        assignments.increment();
+    }
+    @Override
+    public void incrementAssignments(long n) {
+        assignments.add(n);
+    }
+    @Override
+    public void incrementAdditions() {
+        additions.increment();
+    }
+    @Override
+    public void incrementAdditions(long n) {
+        additions.add(n);
+    }
+
+    // clears only the calling thread's timer, see class comment
+    @Override
+    public void beginRun() {
+        startNs.get()[0] = 0;
+    }
+
+    @Override
+    public void reset() {
+        comparisons.reset();
+        arrayAccesses.reset();
+        assignments.reset();
+        additions.reset();
+        timeNs.reset();
+        timedRuns.reset();
+        startNs.get()[0] = 0;
+        setEngine(null);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentPerformanceTracker [comparisons=" + getComparisons() + ", " +
+                "arrayAccess=" + getArrayAccesses() + ", assignments=" + getAssignments()
+                + ", additions=" + getAdditions() + ", timeNs=" +
+                getTimeNs() + ", timedRuns=" + getTimedRuns() + "]";
+    }
+}
@@ -0,0 +1,132 @@
+package metrics;
+
+import java.util.Arrays;
+
+/*
+  Fixed-memory, log-bucketed latency histogram for nanosecond timings (HDR-style).
+  Buckets:
+    - values below 2^SUB_BUCKET_BITS are counted exactly;
+    - above that every power of two is split into 2^SUB_BUCKET_BITS linear sub-buckets,
+      so a reported value is within 1/128 (< 0.8%) of the recorded one.
+  The whole range of non-negative longs fits in one long[] allocated up front; record()
+  never allocates. Percentiles report the highest value of the bucket (capped by max).
+  Also keeps count, min, max, mean and standard deviation (Welford).
+  Not thread-safe: record from one thread, or use one histogram per thread.
+*/
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+    private double mean = 0;
+    private double m2 = 0;
+
+    public void record(long valueNs) {
+        if (valueNs < 0) {
+            throw new IllegalArgumentException("Latency must be non-negative: " + valueNs);
+        }
+        counts[indexOf(valueNs)]++;
+        count++;
+        if (valueNs < min) {
+            min = valueNs;
+        }
+        if (valueNs > max) {
+            max = valueNs;
+        }
+        double delta = valueNs - mean;
+        mean += delta / count;
+        m2 += delta * (valueNs - mean);
+    }
+
+    public long getCount() {
+        return count;
+    }
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+    public long getMax() {
+        return max;
+    }
+    public double getMean() {
+        return mean;
+    }
+    // sample standard deviation, 0 for fewer than two values
+    public double getStdDev() {
+        return count < 2 ? 0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    // value at the given percentile (0..100]
+    public long getValueAtPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void add(LatencyHistogram other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        // parallel variant of Welford's update
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        mean = 0;
+        m2 = 0;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = ((long) (index % SUB_BUCKETS + SUB_BUCKETS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + count + ", mean=" + mean + ", stddev=" + getStdDev()
+                + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99)
+                + ", max=" + max + "]";
+    }
+}
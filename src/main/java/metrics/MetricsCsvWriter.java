@@ -4,15 +4,24 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Locale;
 
 /*
   Simple CSV writer for metrics.
   - writeHeader(file): create/truncate file and write header row.
   - appendLine(file, algorithm, inputType, n, trial, tracker): append one CSV row using tracker counters.
+  - writeLatencyHeader(file) / appendLatencyLine(file, algorithm, inputType, n, histogram):
+    one summary row per (input type, size) with nanosecond percentiles, mean and stddev.
+  - writeStatsHeader(file) / appendStatsLine(file, ...): rigorous-mode summary per (input type, size)
+    with warm-up, steady-state outcome, outliers and the 95% confidence interval of the mean.
 */
 public class MetricsCsvWriter {
     public static final String HEADER = "algorithm,input_type,n,trial,time_ms,comparisons,array_accesses,assignments,additions";
 
+    public static final String LATENCY_HEADER = "algorithm,input_type,n,trials,mean_ns,stddev_ns,p50_ns,p90_ns,p99_ns,p999_ns,max_ns";
+
+    public static final String STATS_HEADER = "algorithm,input_type,n,warmup,steady_iterations,steady_state,samples,outliers,mean_ns,stddev_ns,cv,ci95_low_ns,ci95_high_ns";
+
     public static void writeHeader(File file) throws IOException {
         try(PrintWriter out = new PrintWriter(new FileWriter(file, false))) {
             out.println(HEADER);
@@ -40,4 +49,74 @@ public class MetricsCsvWriter {
             out.println(line);
         }
     }
+
+    public static void writeLatencyHeader(File file) throws IOException {
+        try(PrintWriter out = new PrintWriter(new FileWriter(file, false))) {
+            out.println(LATENCY_HEADER);
+        }
+    }
+
+    public static void appendLatencyLine(File file,
+                                         String algorithm,
+                                         String inputType,
+                                         long n,
+                                         LatencyHistogram histogram) throws IOException {
+        try(PrintWriter out = new PrintWriter(new FileWriter(file, true))) {
+            out.println(toLatencyLine(algorithm, inputType, n, histogram));
+        }
+    }
+
+    public static String toLatencyLine(String algorithm, String inputType, long n, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.1f,%d,%d,%d,%d,%d",
+                algorithm,
+                inputType,
+                n,
+                histogram.getCount(),
+                histogram.getMean(),
+                histogram.getStdDev(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMax()
+        );
+    }
+
+    public static void writeStatsHeader(File file) throws IOException {
+        try(PrintWriter out = new PrintWriter(new FileWriter(file, false))) {
+            out.println(STATS_HEADER);
+        }
+    }
+
+    public static void appendStatsLine(File file,
+                                       String algorithm,
+                                       String inputType,
+                                       long n,
+                                       int warmup,
+                                       int steadyIterations,
+                                       boolean steadyState,
+                                       SampleStatistics stats) throws IOException {
+        try(PrintWriter out = new PrintWriter(new FileWriter(file, true))) {
+            out.println(toStatsLine(algorithm, inputType, n, warmup, steadyIterations, steadyState, stats));
+        }
+    }
+
+    public static String toStatsLine(String algorithm, String inputType, long n, int warmup,
+                                     int steadyIterations, boolean steadyState, SampleStatistics stats) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%b,%d,%d,%.1f,%.1f,%.4f,%.1f,%.1f",
+                algorithm,
+                inputType,
+                n,
+                warmup,
+                steadyIterations,
+                steadyState,
+                stats.getCount(),
+                stats.getOutliers(),
+                stats.getMean(),
+                stats.getStdDev(),
+                stats.getCoefficientOfVariation(),
+                stats.getLower95(),
+                stats.getUpper95()
+        );
+    }
 }
@@ -8,9 +8,12 @@ package metrics;
     - assignments (can increment by n)
     - additions
   Timing:
-    - startTimer() / stopTimer() record elapsed time (stored in ns, exposed as ms).
+    - startTimer() / stopTimer() record elapsed time (stored in ns, exposed as ms and ns).
+  Engine:
+    - name of the engine Kadane.runAuto dispatched to for the last run (null otherwise).
   Methods that change counters are synchronized for basic thread-safety.
-  Use reset() before a new run if reusing the same tracker.
+  Use reset() before a new run if reusing the same tracker; Kadane calls beginRun() at the
+  start of every run, which resets here (ConcurrentPerformanceTracker keeps accumulating).
 */
 public class PerformanceTracker {
     private long comparisons = 0;
@@ -19,6 +22,7 @@ public class PerformanceTracker {
     private long additions = 0;
     private long timeNs = 0;
     private long startNs = 0;
+    private volatile String engine = null;
 
     public long getComparisons() {
         return comparisons;
@@ -35,6 +39,15 @@ public class PerformanceTracker {
     public long getTimeMs() {
         return timeNs/1_000_000;
     }
+    public long getTimeNs() {
+        return timeNs;
+    }
+    public String getEngine() {
+        return engine;
+    }
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
 
     // timer control
     public void startTimer(){
@@ -70,9 +83,15 @@ public class PerformanceTracker {
         additions += n;
     }
 
+    // start of one Kadane run: a fresh count per run
+    public void beginRun(){
+        reset();
+    }
+
     // reset all counters and timers
     public void reset(){
         comparisons = arrayAccesses = assignments = additions = timeNs = startNs = 0;
+        engine = null;
     }
 
     // string helpers
@@ -80,7 +99,8 @@ public class PerformanceTracker {
         return "PerformanceTracker [comparisons=" + comparisons + ", " +
                 "arrayAccess=" + arrayAccesses + ", assignments=" + assignments
                 + ", additions=" + additions + ", timeNs=" +
-                timeNs + ", startNs=" + startNs + "]";
+                timeNs + ", startNs=" + startNs
+                + (engine == null ? "" : ", engine=" + engine) + "]";
     }
 
     // convenience CSV row
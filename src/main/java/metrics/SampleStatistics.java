@@ -0,0 +1,158 @@
+package metrics;
+
+import java.util.Arrays;
+
+/*
+  Summary statistics for a set of timing samples (nanoseconds).
+  - Outliers are rejected with Tukey fences: values outside [Q1 - k*IQR, Q3 + k*IQR]
+    (quartiles by linear interpolation) are dropped; k <= 0 keeps every sample.
+  - Mean, sample standard deviation and coefficient of variation of the kept samples.
+  - 95% confidence interval of the mean: mean +- t(0.975, n-1) * stddev / sqrt(n),
+    NaN bounds for fewer than two kept samples.
+  coefficientOfVariation(samples, from, to) is the cheap check used for steady-state detection.
+*/
+public class SampleStatistics {
+    // two-sided 95% Student t critical values for 1..30 degrees of freedom
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_975 = 1.959964;
+
+    private final int count;
+    private final int outliers;
+    private final double mean;
+    private final double stdDev;
+    private final double halfWidth;
+
+    private SampleStatistics(int count, int outliers, double mean, double stdDev, double halfWidth) {
+        this.count = count;
+        this.outliers = outliers;
+        this.mean = mean;
+        this.stdDev = stdDev;
+        this.halfWidth = halfWidth;
+    }
+
+    public static SampleStatistics of(long[] samples, double outlierIqrFactor) {
+        if (samples == null) {
+            throw new IllegalArgumentException("Samples are null");
+        }
+        return of(samples, 0, samples.length, outlierIqrFactor);
+    }
+
+    public static SampleStatistics of(long[] samples, int from, int to, double outlierIqrFactor) {
+        checkRange(samples, from, to);
+        if (from == to) {
+            return new SampleStatistics(0, 0, 0, 0, Double.NaN);
+        }
+        long[] sorted = Arrays.copyOfRange(samples, from, to);
+        Arrays.sort(sorted);
+
+        int lo = 0;
+        int hi = sorted.length;
+        if (outlierIqrFactor > 0) {
+            double q1 = quantile(sorted, 0.25);
+            double q3 = quantile(sorted, 0.75);
+            double iqr = q3 - q1;
+            double lowFence = q1 - outlierIqrFactor * iqr;
+            double highFence = q3 + outlierIqrFactor * iqr;
+            while (sorted[lo] < lowFence) {
+                lo++;
+            }
+            while (sorted[hi - 1] > highFence) {
+                hi--;
+            }
+        }
+
+        int n = hi - lo;
+        double mean = 0;
+        double m2 = 0;
+        for (int i = lo; i < hi; i++) {
+            double delta = sorted[i] - mean;
+            mean += delta / (i - lo + 1);
+            m2 += delta * (sorted[i] - mean);
+        }
+        double stdDev = n < 2 ? 0 : Math.sqrt(m2 / (n - 1));
+        double halfWidth = n < 2 ? Double.NaN : tCritical95(n - 1) * stdDev / Math.sqrt(n);
+        return new SampleStatistics(n, sorted.length - n, mean, stdDev, halfWidth);
+    }
+
+    // stddev / mean of samples[from, to), without outlier rejection
+    public static double coefficientOfVariation(long[] samples, int from, int to) {
+        checkRange(samples, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double mean = 0;
+        double m2 = 0;
+        for (int i = from; i < to; i++) {
+            double delta = samples[i] - mean;
+            mean += delta / (i - from + 1);
+            m2 += delta * (samples[i] - mean);
+        }
+        return mean == 0 ? 0 : Math.sqrt(m2 / (n - 1)) / mean;
+    }
+
+    // two-sided 95% critical value; Cornish-Fisher expansion past the table
+    static double tCritical95(int degreesOfFreedom) {
+        if (degreesOfFreedom <= 0) {
+            throw new IllegalArgumentException("Degrees of freedom must be positive");
+        }
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[degreesOfFreedom - 1];
+        }
+        double z = Z_975;
+        double df = degreesOfFreedom;
+        return z + (z * z * z + z) / (4 * df) + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * df * df);
+    }
+
+    private static double quantile(long[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int below = (int) Math.floor(position);
+        int above = Math.min(below + 1, sorted.length - 1);
+        return sorted[below] + (position - below) * (sorted[above] - sorted[below]);
+    }
+
+    private static void checkRange(long[] samples, int from, int to) {
+        if (samples == null) {
+            throw new IllegalArgumentException("Samples are null");
+        }
+        if (from < 0 || to > samples.length || from > to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") for " + samples.length + " samples");
+        }
+    }
+
+    // number of samples kept after outlier rejection
+    public int getCount() {
+        return count;
+    }
+    public int getOutliers() {
+        return outliers;
+    }
+    public double getMean() {
+        return mean;
+    }
+    public double getStdDev() {
+        return stdDev;
+    }
+    public double getCoefficientOfVariation() {
+        return mean == 0 ? 0 : stdDev / mean;
+    }
+    public double getConfidenceHalfWidth() {
+        return halfWidth;
+    }
+    public double getLower95() {
+        return mean - halfWidth;
+    }
+    public double getUpper95() {
+        return mean + halfWidth;
+    }
+
+    @Override
+    public String toString() {
+        return "SampleStatistics [count=" + count + ", outliers=" + outliers + ", mean=" + mean
+                + ", stddev=" + stdDev + ", ci95=[" + getLower95() + ", " + getUpper95() + "]]";
+    }
+}
@@ -0,0 +1,176 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+  Cache of generated input arrays keyed by (input type, size, seed).
+  - Arrays come from ParallelDataGenerator, so a key always maps to the same values. They differ
+    from DataGenerator's arrays of the same type; label(type, seed) names them in reports.
+  - Resident arrays are bounded by a byte budget; the least recently used ones are evicted.
+    Arrays larger than the whole budget are returned but not kept.
+  - With a spill directory every generated array is also written there as a little-endian
+    int64 file (KadaneFileEngine format); a later miss, in this run or the next, loads the
+    file through a read-only mapping instead of generating again.
+  - Counts memory hits, disk loads, generated misses and evictions.
+  Callers must not modify returned arrays: they are shared by every later hit.
+  Methods are synchronized, one cache can be shared by several threads.
+*/
+public class DatasetCache {
+    // 64 MiB per mapping, a single mapping is limited to 2 GiB
+    private static final int WINDOW_ELEMENTS = (1 << 26) / Long.BYTES;
+
+    private final long budgetBytes;
+    private final Path spillDirectory;
+    private final ForkJoinPool pool;
+    private final LinkedHashMap<String, long[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long residentBytes = 0;
+    private long hits = 0;
+    private long diskLoads = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public DatasetCache(long budgetBytes) {
+        this(budgetBytes, null, ForkJoinPool.commonPool());
+    }
+
+    // spillDirectory may be null (memory only); it is created if missing
+    public DatasetCache(long budgetBytes, Path spillDirectory, ForkJoinPool pool) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Budget must not be negative");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null");
+        }
+        this.budgetBytes = budgetBytes;
+        this.spillDirectory = spillDirectory;
+        this.pool = pool;
+    }
+
+    // input_type label for rows measured on cached arrays, e.g. "random@seed42"
+    public static String label(String inputType, long seed) {
+        return inputType + "@seed" + seed;
+    }
+
+    public synchronized long[] get(String inputType, int size, long seed) throws IOException {
+        // validates the type before it becomes part of a file name
+        ParallelDataGenerator generator = new ParallelDataGenerator(inputType, size, seed);
+        // "random_signs:0.3" -> "random_signs_0.3", ':' is not allowed in Windows file names
+        String key = generator.getInputType().replaceAll("[^a-z0-9._-]", "_") + "-" + size + "-" + seed;
+        long[] array = entries.get(key);
+        if (array != null) {
+            hits++;
+            return array;
+        }
+
+        array = spillDirectory == null ? null : load(key, size);
+        if (array != null) {
+            diskLoads++;
+        } else {
+            array = generator.generate(pool);
+            misses++;
+            if (spillDirectory != null) {
+                spill(key, array);
+            }
+        }
+        admit(key, array);
+        return array;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        residentBytes = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+    public synchronized long getDiskLoads() {
+        return diskLoads;
+    }
+    public synchronized long getMisses() {
+        return misses;
+    }
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+    public synchronized int getResidentCount() {
+        return entries.size();
+    }
+
+    private void admit(String key, long[] array) {
+        long bytes = (long) array.length * Long.BYTES;
+        if (bytes > budgetBytes) {
+            return;
+        }
+        Iterator<Map.Entry<String, long[]>> eldest = entries.entrySet().iterator();
+        while (residentBytes + bytes > budgetBytes && eldest.hasNext()) {
+            residentBytes -= (long) eldest.next().getValue().length * Long.BYTES;
+            eldest.remove();
+            evictions++;
+        }
+        entries.put(key, array);
+        residentBytes += bytes;
+    }
+
+    // null if there is no complete spill file for the key
+    private long[] load(String key, int size) throws IOException {
+        Path file = spillDirectory.resolve(key + ".bin");
+        if (!Files.isRegularFile(file) || Files.size(file) != (long) size * Long.BYTES) {
+            return null;
+        }
+        long[] array = new long[size];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int from = 0; from < size; from += WINDOW_ELEMENTS) {
+                int count = Math.min(WINDOW_ELEMENTS, size - from);
+                channel.map(FileChannel.MapMode.READ_ONLY, (long) from * Long.BYTES, (long) count * Long.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asLongBuffer()
+                        .get(array, from, count);
+            }
+        }
+        return array;
+    }
+
+    // written to a temporary file and moved into place, so an interrupted run leaves no partial file
+    private void spill(String key, long[] array) throws IOException {
+        Files.createDirectories(spillDirectory);
+        Path file = spillDirectory.resolve(key + ".bin");
+        Path tmp = Files.createTempFile(spillDirectory, key, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                for (int from = 0; from < array.length; from += WINDOW_ELEMENTS) {
+                    int count = Math.min(WINDOW_ELEMENTS, array.length - from);
+                    MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE,
+                            (long) from * Long.BYTES, (long) count * Long.BYTES);
+                    out.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(array, from, count);
+                    out.force();
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DatasetCache [hits=" + hits + ", diskLoads=" + diskLoads + ", misses=" + misses
+                + ", evictions=" + evictions + ", resident=" + entries.size() + " arrays / "
+                + residentBytes / (1024 * 1024) + " MiB of " + budgetBytes / (1024 * 1024) + " MiB]";
+    }
+}
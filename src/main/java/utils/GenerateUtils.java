@@ -30,27 +30,20 @@ public class GenerateUtils {
     }
 
     public static long[] generateRandomArray(int size) {
-        Random rand = new Random(42);
         long[] array = new long[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = rand.nextInt(2001) - 1000;
-        }
+        fillRandomArray(array);
         return array;
     }
 
     public static long[] generateAllPositiveArray(int size) {
         long[] array = new long[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = i + 1;
-        }
+        fillAllPositiveArray(array);
         return array;
     }
 
     public static long[] generateAllNegativeArray(int size) {
         long[] array = new long[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = -(i + 1);
-        }
+        fillAllNegativeArray(array);
         return array;
     }
 
@@ -64,18 +57,88 @@ public class GenerateUtils {
 
     public static long[] generateSortedArray(int size) {
         long[] array = new long[size];
-        for (int i = 0; i < size; i++) array[i] = i + 1;
+        fillSortedArray(array);
         return array;
     }
 
     public static long[] generateReverseSortedArray(int size) {
         long[] array = new long[size];
-        for (int i = 0; i < size; i++) array[i] = size - i;
+        fillReverseSortedArray(array);
         return array;
     }
 
     public static long[] generateNearlySortedArray(int size) {
-        long[] array = generateSortedArray(size);
+        long[] array = new long[size];
+        fillNearlySortedArray(array);
+        return array;
+    }
+
+    // adversarial inputs for branch prediction: magnitudes 1..1000, signs alternate
+    public static long[] generateAlternatingSignsArray(int size) {
+        long[] array = new long[size];
+        fillAlternatingSignsArray(array);
+        return array;
+    }
+
+    // magnitudes 1..1000, each value positive with the given probability
+    public static long[] generateRandomSignsArray(int size, double positiveProbability) {
+        long[] array = new long[size];
+        fillRandomSignsArray(array, positiveProbability);
+        return array;
+    }
+
+    // "random_signs" -> 0.5, "random_signs:<p>" -> p in [0, 1]
+    public static double positiveProbability(String inputType) {
+        if (inputType.equalsIgnoreCase("random_signs")) {
+            return 0.5;
+        }
+        String prefix = "random_signs:";
+        if (!inputType.regionMatches(true, 0, prefix, 0, prefix.length())) {
+            throw new IllegalArgumentException("Not a random_signs input type: " + inputType);
+        }
+        double p;
+        try {
+            p = Double.parseDouble(inputType.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid sign bias in " + inputType + ": must be a number in [0, 1]");
+        }
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Sign bias must be in [0, 1]: " + inputType);
+        }
+        return p;
+    }
+
+    // fill variants: same values as generate*, written into a caller-owned (e.g. pooled) buffer
+    public static void fillRandomArray(long[] array) {
+        Random rand = new Random(42);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = rand.nextInt(2001) - 1000;
+        }
+    }
+
+    public static void fillAllPositiveArray(long[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i + 1;
+        }
+    }
+
+    public static void fillAllNegativeArray(long[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = -(i + 1);
+        }
+    }
+
+    public static void fillSortedArray(long[] array) {
+        for (int i = 0; i < array.length; i++) array[i] = i + 1;
+    }
+
+    public static void fillReverseSortedArray(long[] array) {
+        for (int i = 0; i < array.length; i++) array[i] = array.length - i;
+    }
+
+    public static void fillNearlySortedArray(long[] array) {
+        int size = array.length;
+        fillSortedArray(array);
         // Swap some elements to make it nearly sorted
         for (int i = 0; i < size / 10; i++) { // 10% of elements
             int idx1 = RANDOM.nextInt(size);
@@ -84,6 +147,24 @@ public class GenerateUtils {
             array[idx1] = array[idx2];
             array[idx2] = temp;
         }
-        return array;
+    }
+
+    public static void fillAlternatingSignsArray(long[] array) {
+        Random rand = new Random(42);
+        for (int i = 0; i < array.length; i++) {
+            long magnitude = rand.nextInt(1000) + 1;
+            array[i] = (i & 1) == 0 ? magnitude : -magnitude;
+        }
+    }
+
+    public static void fillRandomSignsArray(long[] array, double positiveProbability) {
+        if (!(positiveProbability >= 0 && positiveProbability <= 1)) {
+            throw new IllegalArgumentException("Probability must be in [0, 1]: " + positiveProbability);
+        }
+        Random rand = new Random(42);
+        for (int i = 0; i < array.length; i++) {
+            long magnitude = rand.nextInt(1000) + 1;
+            array[i] = rand.nextDouble() < positiveProbability ? magnitude : -magnitude;
+        }
     }
 }
@@ -0,0 +1,267 @@
+package utils;
+
+import algorithms.LongSource;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+  Counter-based, parallel generator for the DataGenerator input types.
+  Every value is a pure function of (input type, size, seed, index):
+    - random: the index-th output of new SplittableRandom(seed).nextLong(), computed directly
+      (SplitMix64 of seed + (index + 1) * GOLDEN_GAMMA), mapped to [-1000, 1000];
+    - sorted / all_positive: index + 1, reverse_sorted: size - index, all_negative: -(index + 1);
+    - nearly_sorted: a permutation of 1..size; in aligned blocks of NEARLY_SORTED_BLOCK elements,
+      position j pairs with (blockLength - 1 - j) and each pair is swapped with probability 1/10;
+    - alternating_signs / random_signs[:p]: magnitude 1..1000 from the same stream, sign by index
+      parity or positive with probability p (default 0.5).
+  So output is identical for any thread count or split, any sub-range can be generated on
+  its own, and valueAt gives O(1) random access. As a LongSource it is a virtual dataset that
+  KadaneSourceEngine consumes block by block without ever materializing the array.
+  Fills go into caller-owned long[] buffers, heap or direct (off-heap) LongBuffers, or a
+  memory-mapped file in KadaneFileEngine format.
+  Values differ from GenerateUtils for random and nearly_sorted (java.util.Random there).
+*/
+public final class ParallelDataGenerator implements LongSource {
+    public static final long DEFAULT_SEED = 42;
+    // elements per fork/join leaf
+    public static final int DEFAULT_CHUNK = 1 << 16;
+    static final int NEARLY_SORTED_BLOCK = 1 << 10;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int WINDOW_BYTES = 1 << 26;
+
+    private static final int RANDOM = 0;
+    private static final int SORTED = 1;
+    private static final int REVERSE_SORTED = 2;
+    private static final int ALL_NEGATIVE = 3;
+    private static final int NEARLY_SORTED = 4;
+    private static final int ALTERNATING_SIGNS = 5;
+    private static final int RANDOM_SIGNS = 6;
+
+    private final String inputType;
+    private final int kind;
+    private final long size;
+    private final long seed;
+    private final long positiveThreshold;   // random_signs: positive when the low 32 random bits are below it
+
+    public ParallelDataGenerator(String inputType, long size, long seed) {
+        if (inputType == null) {
+            throw new IllegalArgumentException("inputType must not be null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        this.inputType = inputType.toLowerCase();
+        if (this.inputType.startsWith("random_signs")) {
+            this.kind = RANDOM_SIGNS;
+            this.positiveThreshold = (long) (GenerateUtils.positiveProbability(this.inputType) * 0x1p32);
+        } else {
+            this.kind = kindOf(this.inputType);
+            this.positiveThreshold = 0;
+        }
+        this.size = size;
+        this.seed = seed;
+    }
+
+    public String getInputType() {
+        return inputType;
+    }
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long get(long index) {
+        return valueAt(index);
+    }
+
+    public long valueAt(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index " + index + " out of range [0, " + size + ")");
+        }
+        return value(index);
+    }
+
+    // sequential block fill on the calling thread, used by the streaming and parallel Kadane paths
+    @Override
+    public void read(long from, long[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer is null");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IllegalArgumentException("Invalid buffer range [" + offset + ", " + offset + " + " + length + ")");
+        }
+        checkRange(from, length);
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = value(from + i);
+        }
+    }
+
+    public long[] generate() {
+        return generate(ForkJoinPool.commonPool());
+    }
+
+    public long[] generate(ForkJoinPool pool) {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Size " + size + " does not fit in a long[]; use fill or writeFile");
+        }
+        long[] array = new long[(int) size];
+        fill(array, 0, pool);
+        return array;
+    }
+
+    // buffer[i] = valueAt(firstIndex + i) for the whole buffer
+    public void fill(long[] buffer, long firstIndex, ForkJoinPool pool) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer is null");
+        }
+        checkRange(firstIndex, buffer.length);
+        pool.invoke(new FillTask(this, buffer, null, 0, buffer.length, firstIndex));
+    }
+
+    // absolute puts from position to limit: buffer.get(position + i) = valueAt(firstIndex + i); position is not moved
+    public void fill(LongBuffer buffer, long firstIndex, ForkJoinPool pool) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer is null");
+        }
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException("Buffer is read-only");
+        }
+        checkRange(firstIndex, buffer.remaining());
+        int from = buffer.position();
+        pool.invoke(new FillTask(this, null, buffer, from, buffer.limit(), firstIndex - from));
+    }
+
+    // writes all values as little-endian int64 (KadaneFileEngine format) through mapped windows
+    public void writeFile(Path file, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long windowElements = WINDOW_BYTES / Long.BYTES;
+            for (long from = 0; from < size; from += windowElements) {
+                long count = Math.min(windowElements, size - from);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_WRITE, from * Long.BYTES, count * Long.BYTES);
+                fill(window.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(), from, pool);
+                window.force();
+            }
+        }
+    }
+
+    // the index-th nextLong() of new SplittableRandom(seed)
+    static long randomLong(long seed, long index) {
+        return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    private long value(long index) {
+        switch (kind) {
+            case RANDOM:
+                // high 32 bits scaled to [0, 2001), no rejection loop so the value stays a pure function
+                return ((randomLong(seed, index) >>> 32) * 2001 >>> 32) - 1000;
+            case SORTED:
+                return index + 1;
+            case REVERSE_SORTED:
+                return size - index;
+            case ALL_NEGATIVE:
+                return -(index + 1);
+            case ALTERNATING_SIGNS: {
+                long magnitude = ((randomLong(seed, index) >>> 32) * 1000 >>> 32) + 1;
+                return (index & 1) == 0 ? magnitude : -magnitude;
+            }
+            case RANDOM_SIGNS: {
+                long bits = randomLong(seed, index);
+                long magnitude = ((bits >>> 32) * 1000 >>> 32) + 1;
+                return (bits & 0xFFFFFFFFL) < positiveThreshold ? magnitude : -magnitude;
+            }
+            default:
+                return nearlySorted(index);
+        }
+    }
+
+    private long nearlySorted(long index) {
+        long blockStart = index - index % NEARLY_SORTED_BLOCK;
+        long blockLength = Math.min(NEARLY_SORTED_BLOCK, size - blockStart);
+        long j = index - blockStart;
+        long partner = blockLength - 1 - j;
+        long pair = blockStart + Math.min(j, partner);
+        // one draw per pair, so both sides agree on the swap
+        boolean swapped = Long.remainderUnsigned(randomLong(seed ^ GOLDEN_GAMMA, pair), 10) == 0;
+        return (swapped ? blockStart + partner : index) + 1;
+    }
+
+    private void checkRange(long firstIndex, long count) {
+        if (firstIndex < 0 || firstIndex > size - count) {
+            throw new IllegalArgumentException("Range [" + firstIndex + ", " + firstIndex + " + " + count
+                    + ") out of [0, " + size + ")");
+        }
+    }
+
+    private static int kindOf(String inputType) {
+        return switch (inputType) {
+            case "random" -> RANDOM;
+            case "sorted", "all_positive" -> SORTED;
+            case "reverse_sorted" -> REVERSE_SORTED;
+            case "all_negative" -> ALL_NEGATIVE;
+            case "nearly_sorted" -> NEARLY_SORTED;
+            case "alternating_signs" -> ALTERNATING_SIGNS;
+            default -> throw new IllegalArgumentException("Unknown input type: " + inputType);
+        };
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // writes [from, to) of either target; value index = i + indexOffset
+    private static final class FillTask extends RecursiveAction {
+        private final ParallelDataGenerator generator;
+        private final long[] array;
+        private final LongBuffer buffer;
+        private final int from;
+        private final int to;
+        private final long indexOffset;
+
+        FillTask(ParallelDataGenerator generator, long[] array, LongBuffer buffer, int from, int to, long indexOffset) {
+            this.generator = generator;
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.indexOffset = indexOffset;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= DEFAULT_CHUNK) {
+                if (array != null) {
+                    for (int i = from; i < to; i++) {
+                        array[i] = generator.value(i + indexOffset);
+                    }
+                } else {
+                    for (int i = from; i < to; i++) {
+                        buffer.put(i, generator.value(i + indexOffset));
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            FillTask left = new FillTask(generator, array, buffer, from, mid, indexOffset);
+            left.fork();
+            new FillTask(generator, array, buffer, mid, to, indexOffset).compute();
+            left.join();
+        }
+    }
+}
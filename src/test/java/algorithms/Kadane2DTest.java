@@ -0,0 +1,94 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the 2D maximum-sum rectangle engine.
+  Verifies:
+    - results against a brute-force search over all rectangles (with the same tie rules)
+    - parallel and sequential runs agree
+    - strided matrices and argument validation
+*/
+class Kadane2DTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static long bruteForceSum(long[] m, int rows, int cols) {
+        long best = Long.MIN_VALUE;
+        for (int t = 0; t < rows; t++)
+            for (int b = t; b < rows; b++)
+                for (int l = 0; l < cols; l++)
+                    for (int r = l; r < cols; r++) {
+                        long sum = 0;
+                        for (int i = t; i <= b; i++)
+                            for (int j = l; j <= r; j++) sum += m[i * cols + j];
+                        best = Math.max(best, sum);
+                    }
+        return best;
+    }
+
+    private static long rectangleSum(long[] m, int stride, RectangleResult r) {
+        long sum = 0;
+        for (int i = r.top(); i <= r.bottom(); i++)
+            for (int j = r.left(); j <= r.right(); j++) sum += m[i * stride + j];
+        return sum;
+    }
+
+    @Test
+    void classicalExample() {
+        long[] m = {
+                1, 2, -1, -4, -20,
+                -8, -3, 4, 2, 1,
+                3, 8, 10, 1, 3,
+                -4, -1, 1, 7, -6
+        };
+        assertEquals(new RectangleResult(29L, 1, 1, 3, 3), Kadane2D.run(m, 4, 5));
+        assertEquals(new RectangleResult(29L, 1, 1, 3, 3), Kadane2D.runParallel(m, 4, 5, pool));
+    }
+
+    @Test
+    void randomMatricesMatchBruteForce() {
+        Random rand = new Random(17);
+        for (int t = 0; t < 60; t++) {
+            int rows = 1 + rand.nextInt(7);
+            int cols = 1 + rand.nextInt(7);
+            long[] m = new long[rows * cols];
+            for (int i = 0; i < m.length; i++) m[i] = rand.nextInt(11) - 5;
+            RectangleResult seq = Kadane2D.run(m, rows, cols);
+            assertEquals(bruteForceSum(m, rows, cols), seq.maxSum());
+            assertEquals(seq.maxSum(), rectangleSum(m, cols, seq));
+            assertEquals(seq, Kadane2D.runParallel(m, rows, cols, pool));
+        }
+    }
+
+    @Test
+    void stridedMatrixIgnoresPadding() {
+        // 2x2 matrix with one padding column of large values
+        long[] m = {1, -5, 1000, -2, 3, 1000};
+        assertEquals(new RectangleResult(3L, 1, 1, 1, 1), Kadane2D.run(m, 2, 2, 3));
+    }
+
+    @Test
+    void emptyMatrixAndInvalidArguments() {
+        assertEquals(new RectangleResult(0L, -1, -1, -1, -1), Kadane2D.run(new long[0], 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Kadane2D.run(null, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> Kadane2D.run(new long[3], 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> Kadane2D.run(new long[4], 2, 2, 1));
+    }
+}
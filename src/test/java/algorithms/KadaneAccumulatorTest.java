@@ -0,0 +1,113 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for the streaming KadaneAccumulator.
+  Verifies:
+    - single values, array chunks and LongBuffers all give the sequential Kadane result
+    - summaries of accumulators over adjacent ranges merge like KadaneSummary.of
+    - offsets are long and can start beyond Integer.MAX_VALUE
+*/
+class KadaneAccumulatorTest {
+
+    @Test
+    void emptyAccumulatorReturnsZeroAndInvalidIndices() {
+        KadaneAccumulator acc = new KadaneAccumulator();
+        assertEquals(new LongKadaneResult(0L, -1L, -1L), acc.result());
+        assertTrue(acc.summary().isEmpty());
+    }
+
+    @Test
+    void valuesOneAtATimeMatchRun() {
+        long[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneAccumulator acc = new KadaneAccumulator();
+        for (long v : array) {
+            acc.accept(v);
+        }
+        assertEquals(Kadane.run(array), acc.toKadaneResult());
+        assertEquals(array.length, acc.count());
+    }
+
+    @Test
+    void randomChunksMatchRun() {
+        Random rand = new Random(2024);
+        for (int t = 0; t < 200; t++) {
+            long[] array = new long[1 + rand.nextInt(100)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(7) - 3;
+            }
+            KadaneAccumulator acc = new KadaneAccumulator();
+            int pos = 0;
+            while (pos < array.length) {
+                int len = Math.min(array.length - pos, rand.nextInt(6));
+                if (rand.nextBoolean()) {
+                    acc.accept(array, pos, len);
+                } else {
+                    acc.accept(LongBuffer.wrap(array, pos, len));
+                }
+                pos += len;
+            }
+            assertEquals(Kadane.run(array), acc.toKadaneResult(), "Mismatch for input: " + Arrays.toString(array));
+            assertEquals(KadaneSummary.of(array, 0, array.length), acc.summary());
+        }
+    }
+
+    @Test
+    void directBufferIsConsumed() {
+        // several scratch blocks, fed in two calls starting mid-buffer
+        long[] array = generateRandomArray(10_000);
+        LongBuffer buffer = ByteBuffer.allocateDirect(array.length * Long.BYTES).asLongBuffer();
+        buffer.put(array).flip();
+        KadaneAccumulator acc = new KadaneAccumulator();
+        acc.accept(buffer.limit(4097));
+        acc.accept(buffer.limit(array.length));
+        assertFalse(buffer.hasRemaining());
+        assertEquals(Kadane.run(array), acc.toKadaneResult());
+        assertEquals(KadaneSummary.of(array, 0, array.length), acc.summary());
+    }
+
+    @Test
+    void adjacentAccumulatorsMerge() {
+        long[] array = generateRandomArray(5000);
+        KadaneAccumulator left = new KadaneAccumulator(0);
+        KadaneAccumulator right = new KadaneAccumulator(2000);
+        left.accept(array, 0, 2000);
+        right.accept(array, 2000, 3000);
+        assertEquals(Kadane.run(array), left.summary().merge(right.summary()).toKadaneResult());
+    }
+
+    @Test
+    void offsetsBeyondIntRange() {
+        long base = 3L * Integer.MAX_VALUE;
+        KadaneAccumulator acc = new KadaneAccumulator(base);
+        acc.accept(new long[]{-1, 5, 6, -20, 3}, 0, 5);
+        assertEquals(new LongKadaneResult(11L, base + 1, base + 2), acc.result());
+        assertThrows(ArithmeticException.class, acc::toKadaneResult);
+    }
+
+    @Test
+    void resetClearsState() {
+        KadaneAccumulator acc = new KadaneAccumulator();
+        acc.accept(new long[]{3, 4});
+        acc.reset();
+        assertEquals(0, acc.count());
+        acc.accept(-7);
+        assertEquals(new LongKadaneResult(-7L, 0L, 0L), acc.result());
+    }
+
+    @Test
+    void invalidRangeThrowsException() {
+        KadaneAccumulator acc = new KadaneAccumulator();
+        assertThrows(IllegalArgumentException.class, () -> acc.accept(new long[3], 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> acc.accept((long[]) null, 0, 0));
+    }
+}
@@ -0,0 +1,87 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the packed (CSR) batch engine.
+  Verifies:
+    - every series result equals Kadane.run on that series
+    - parallel mode writes the same outputs as sequential mode
+    - empty series and offset validation
+*/
+class KadaneBatchTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void packedSeriesMatchRun() {
+        Random rand = new Random(8);
+        int seriesCount = 5000;
+        int[] offsets = new int[seriesCount + 1];
+        for (int s = 0; s < seriesCount; s++) {
+            offsets[s + 1] = offsets[s] + rand.nextInt(60);
+        }
+        long[] values = new long[offsets[seriesCount]];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(21) - 10;
+        }
+
+        long[] sums = new long[seriesCount];
+        int[] starts = new int[seriesCount];
+        int[] ends = new int[seriesCount];
+        KadaneBatch.run(values, offsets, sums, starts, ends);
+        for (int s = 0; s < seriesCount; s++) {
+            KadaneResult expected = Kadane.run(Arrays.copyOfRange(values, offsets[s], offsets[s + 1]));
+            assertEquals(expected, new KadaneResult(sums[s], starts[s], ends[s]), "Mismatch for series " + s);
+        }
+
+        long[] parallelSums = new long[seriesCount];
+        int[] parallelStarts = new int[seriesCount];
+        int[] parallelEnds = new int[seriesCount];
+        KadaneBatch.runParallel(values, offsets, parallelSums, parallelStarts, parallelEnds, pool, 64);
+        assertArrayEquals(sums, parallelSums);
+        assertArrayEquals(starts, parallelStarts);
+        assertArrayEquals(ends, parallelEnds);
+    }
+
+    @Test
+    void emptySeriesReturnZeroAndInvalidIndices() {
+        long[] values = {3, -1};
+        int[] offsets = {0, 0, 2, 2};
+        long[] sums = new long[3];
+        int[] starts = new int[3];
+        int[] ends = new int[3];
+        KadaneBatch.run(values, offsets, sums, starts, ends);
+        assertArrayEquals(new long[]{0, 3, 0}, sums);
+        assertArrayEquals(new int[]{-1, 0, -1}, starts);
+        assertArrayEquals(new int[]{-1, 0, -1}, ends);
+    }
+
+    @Test
+    void invalidOffsetsThrowException() {
+        long[] values = {1, 2, 3};
+        assertThrows(IllegalArgumentException.class,
+                () -> KadaneBatch.run(values, new int[]{0, 2, 1}, new long[2], new int[2], new int[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> KadaneBatch.run(values, new int[]{0, 4}, new long[1], new int[1], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> KadaneBatch.run(values, new int[]{0, 3}, new long[0], new int[1], new int[1]));
+    }
+}
@@ -0,0 +1,149 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for KadaneCalibration and Kadane.runAuto.
+  Verifies:
+    - sign profiles from the sample and dispatch by length, profile and vector minimum length
+    - runAuto returns the same KadaneResult as run for every engine and records the engine
+    - save/load round trip, and loadOrMeasure replacing a file written for another machine
+    - measure() gives a usable table (no parallel engine on a single core)
+*/
+class KadaneCalibrationTest {
+    private static final KadaneCalibration FIXED = new KadaneCalibration(4, 256, 1 << 20,
+            KadaneEngine.SEQUENTIAL, KadaneEngine.VECTOR, KadaneEngine.BRANCHLESS);
+
+    @Test
+    void signProfiles() {
+        assertEquals(KadaneCalibration.SignProfile.PREDICTABLE, KadaneCalibration.profile(new long[0]));
+        assertEquals(KadaneCalibration.SignProfile.PREDICTABLE, KadaneCalibration.profile(signs(1000, 1.0, 1)));
+        assertEquals(KadaneCalibration.SignProfile.PREDICTABLE, KadaneCalibration.profile(signs(1000, 0.0, 1)));
+        assertEquals(KadaneCalibration.SignProfile.MIXED, KadaneCalibration.profile(alternating(1000)));
+        long[] biased = new long[1000];
+        for (int i = 0; i < biased.length; i++) {
+            biased[i] = i % 5 == 0 ? -1 : 1;
+        }
+        assertEquals(KadaneCalibration.SignProfile.BIASED, KadaneCalibration.profile(biased));
+    }
+
+    @Test
+    void chooseByLengthAndProfile() {
+        assertEquals(KadaneEngine.SEQUENTIAL, FIXED.choose(signs(1000, 1.0, 2)));
+        assertEquals(KadaneEngine.VECTOR, FIXED.choose(alternating(1000)));
+        // below the vector minimum length
+        assertEquals(KadaneEngine.SEQUENTIAL, FIXED.choose(alternating(100)));
+        long[] biased = new long[1000];
+        Arrays.fill(biased, 1);
+        for (int i = 0; i < biased.length; i += 4) {
+            biased[i] = -1;
+        }
+        assertEquals(KadaneEngine.BRANCHLESS, FIXED.choose(biased));
+        assertEquals(KadaneEngine.PARALLEL, FIXED.choose(new long[1 << 20]));
+        assertThrows(IllegalArgumentException.class, () -> FIXED.choose(null));
+    }
+
+    @Test
+    void invalidCalibrationsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new KadaneCalibration(0, 1, 1,
+                KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL));
+        assertThrows(IllegalArgumentException.class, () -> new KadaneCalibration(1, 0, 1,
+                KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL));
+        assertThrows(IllegalArgumentException.class, () -> new KadaneCalibration(1, 1, 1,
+                KadaneEngine.PARALLEL, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL));
+        assertThrows(IllegalArgumentException.class, () -> new KadaneCalibration(1, 1, 1,
+                KadaneEngine.SEQUENTIAL, null, KadaneEngine.SEQUENTIAL));
+    }
+
+    @Test
+    void runAutoMatchesRunForEveryEngine() {
+        Random rand = new Random(21);
+        for (KadaneEngine engine : KadaneEngine.values()) {
+            KadaneCalibration forced = engine == KadaneEngine.PARALLEL
+                    ? new KadaneCalibration(2, 1, 1, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL)
+                    : new KadaneCalibration(1, 1, KadaneCalibration.NEVER, engine, engine, engine);
+            PerformanceTracker tracker = new PerformanceTracker();
+            for (int t = 0; t < 200; t++) {
+                long[] array = new long[1 + rand.nextInt(300)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = rand.nextInt(21) - 10;
+                }
+                assertEquals(Kadane.run(array), Kadane.runAuto(array, tracker, forced),
+                        engine + " mismatch for input: " + Arrays.toString(array));
+                assertEquals(engine.name(), tracker.getEngine());
+            }
+        }
+        assertEquals(new KadaneResult(0L, -1, -1), Kadane.runAuto(new long[0], null, FIXED));
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runAuto(null, null, FIXED));
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runAuto(new long[1], null, null));
+    }
+
+    @Test
+    void trackerResetClearsEngine() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        Kadane.runAuto(alternating(1000), tracker, FIXED);
+        assertEquals("VECTOR", tracker.getEngine());
+        assertTrue(tracker.toString().contains("engine=VECTOR"));
+        Kadane.run(alternating(10), tracker);
+        assertNull(tracker.getEngine());
+    }
+
+    @Test
+    void saveAndLoadRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("nested").resolve("calibration.properties");
+        FIXED.save(file);
+        assertEquals(FIXED, KadaneCalibration.load(file));
+
+        Files.writeString(file, "version=1\ncores=abc\n");
+        assertThrows(IOException.class, () -> KadaneCalibration.load(file));
+    }
+
+    @Test
+    void loadOrMeasureReplacesForeignCalibration(@TempDir Path dir) throws IOException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        Path file = dir.resolve("calibration.properties");
+        new KadaneCalibration(cores + 1, KadaneCalibration.NEVER, KadaneCalibration.NEVER,
+                KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL, KadaneEngine.SEQUENTIAL).save(file);
+
+        KadaneCalibration measured = KadaneCalibration.loadOrMeasure(file);
+        assertEquals(cores, measured.cores());
+        assertTrue(measured.matchesThisMachine());
+        assertEquals(measured, KadaneCalibration.load(file));
+        if (cores == 1) {
+            assertEquals(KadaneCalibration.NEVER, measured.parallelThreshold());
+        }
+        if (!KadaneCalibration.vectorAvailable()) {
+            assertEquals(KadaneCalibration.NEVER, measured.vectorMinLength());
+        }
+        // a matching file is used as is
+        assertEquals(measured, KadaneCalibration.loadOrMeasure(file));
+    }
+
+    private static long[] signs(int n, double positiveProbability, long seed) {
+        Random rand = new Random(seed);
+        long[] array = new long[n];
+        for (int i = 0; i < n; i++) {
+            long magnitude = 1 + rand.nextInt(1000);
+            array[i] = rand.nextDouble() < positiveProbability ? magnitude : -magnitude;
+        }
+        return array;
+    }
+
+    private static long[] alternating(int n) {
+        long[] array = new long[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i % 2 == 0 ? 3 : -2;
+        }
+        return array;
+    }
+}
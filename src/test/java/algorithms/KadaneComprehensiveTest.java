@@ -1,5 +1,6 @@
 package algorithms;
 
+import cli.DataGenerator;
 import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Random;
@@ -178,6 +179,54 @@ class KadaneComprehensiveTest {
         }
     }
 
+    @Test
+    void runIntoSinkMatchesRun() {
+        Random rand = new Random(54321);
+        MutableKadaneResult holder = new MutableKadaneResult();
+        for (int t = 0; t < 100; t++) {
+            long[] array = new long[rand.nextInt(50)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(21) - 10;
+            }
+            Kadane.runInto(array, holder);
+            assertEquals(Kadane.run(array), holder.toKadaneResult(), "Mismatch for input: " + Arrays.toString(array));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runInto(null, holder));
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runInto(new long[1], null));
+    }
+
+    @Test
+    void runBranchlessMatchesRun() {
+        Random rand = new Random(2468);
+        for (int t = 0; t < 300; t++) {
+            long[] array = new long[rand.nextInt(60)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(21) - 10;
+            }
+            assertEquals(Kadane.run(array), Kadane.runBranchless(array), "Mismatch for input: " + Arrays.toString(array));
+        }
+        for (String type : new String[]{"alternating_signs", "random_signs", "random_signs:0.9", "random_signs:0.1", "sorted", "all_negative"}) {
+            long[] array = DataGenerator.generateArray(10_000, type);
+            assertEquals(Kadane.run(array), Kadane.runBranchless(array), type);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runBranchless(null));
+        assertEquals(new KadaneResult(0L, -1, -1), Kadane.runBranchless(new long[0]));
+    }
+
+    @Test
+    void adversarialInputTypesHaveTheRequestedSigns() {
+        long[] alternating = DataGenerator.generateArray(1000, "alternating_signs");
+        for (int i = 0; i < alternating.length; i++) {
+            assertEquals(i % 2 == 0, alternating[i] > 0);
+            assertTrue(Math.abs(alternating[i]) >= 1 && Math.abs(alternating[i]) <= 1000);
+        }
+        long positives = Arrays.stream(DataGenerator.generateArray(100_000, "random_signs:0.9")).filter(v -> v > 0).count();
+        assertTrue(positives > 89_000 && positives < 91_000, "positives " + positives);
+        assertTrue(Arrays.stream(DataGenerator.generateArray(1000, "random_signs:0")).allMatch(v -> v < 0));
+        assertThrows(IllegalArgumentException.class, () -> DataGenerator.generateArray(10, "random_signs:1.5"));
+        assertThrows(IllegalArgumentException.class, () -> DataGenerator.generateArray(10, "random_signs:x"));
+    }
+
     // ===== SCALABILITY TESTS =====
 
     @Test
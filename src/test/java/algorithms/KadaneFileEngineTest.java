@@ -0,0 +1,86 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for the memory-mapped file engine.
+  Verifies:
+    - sequential and parallel scans of little-endian int64 files match Kadane.run
+    - small windows (many mappings) give the same result as one large window
+    - empty files and files with a partial trailing value
+*/
+class KadaneFileEngineTest {
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static Path write(Path file, long[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(values);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Test
+    void sequentialAndParallelMatchRun() throws IOException {
+        long[] array = generateRandomArray(20_000);
+        Path file = write(dir.resolve("random.bin"), array);
+        KadaneResult r = Kadane.run(array);
+        LongKadaneResult expected = new LongKadaneResult(r.maxSum(), r.startIndex(), r.endIndex());
+
+        assertEquals(expected, KadaneFileEngine.run(file));
+        assertEquals(expected, KadaneFileEngine.run(file, 8 * 37));
+        assertEquals(expected, KadaneFileEngine.runParallel(file, pool, 8 * 101));
+        assertEquals(expected, KadaneFileEngine.runParallel(file, pool));
+    }
+
+    @Test
+    void allNegativeFile() throws IOException {
+        long[] array = generateAllNegativeArray(1000);
+        Path file = write(dir.resolve("negative.bin"), array);
+        assertEquals(new LongKadaneResult(-1L, 0L, 0L), KadaneFileEngine.runParallel(file, pool, 64));
+    }
+
+    @Test
+    void emptyFileReturnsZeroAndInvalidIndices() throws IOException {
+        Path file = write(dir.resolve("empty.bin"), new long[0]);
+        assertEquals(new LongKadaneResult(0L, -1L, -1L), KadaneFileEngine.run(file));
+        assertEquals(new LongKadaneResult(0L, -1L, -1L), KadaneFileEngine.runParallel(file, pool));
+    }
+
+    @Test
+    void truncatedFileThrowsException() throws IOException {
+        Path file = dir.resolve("truncated.bin");
+        Files.write(file, new byte[12]);
+        assertThrows(IllegalArgumentException.class, () -> KadaneFileEngine.run(file));
+    }
+
+    @Test
+    void missingFileThrowsIOException() {
+        assertThrows(IOException.class, () -> KadaneFileEngine.run(dir.resolve("missing.bin")));
+    }
+}
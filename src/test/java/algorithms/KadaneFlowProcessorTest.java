@@ -0,0 +1,270 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the Flow processor.
+  Verifies:
+    - the last published result equals Kadane.run over the concatenated chunks, and every
+      published result differs from the one before it
+    - upstream demand comes in batches, independent of downstream demand
+    - a blocked subscriber does not stall the producer and then receives only the latest result
+    - request(n <= 0), upstream errors and null chunks follow the Flow contract
+    - a subscriber that throws from onNext is cancelled without stalling the others
+    - cancel() and a later upstream onComplete/onError end each subscriber exactly once
+*/
+class KadaneFlowProcessorTest {
+
+    // records every signal; requests `initial` up front and one more per result if `eager`
+    private static class Recorder implements Flow.Subscriber<LongKadaneResult> {
+        final List<LongKadaneResult> results = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final AtomicInteger terminals = new AtomicInteger();
+        final long initial;
+        final boolean eager;
+        volatile Flow.Subscription subscription;
+
+        Recorder(long initial, boolean eager) {
+            this.initial = initial;
+            this.eager = eager;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+            subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(LongKadaneResult item) {
+            results.add(item);
+            if (eager) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            terminals.incrementAndGet();
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            terminals.incrementAndGet();
+            completion.complete(null);
+        }
+    }
+
+    // upstream that only records the demand it receives
+    private static final class RecordingSubscription implements Flow.Subscription {
+        final List<Long> requests = new ArrayList<>();
+        boolean cancelled = false;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static long[][] chunks(int count, int length, long seed) {
+        Random rand = new Random(seed);
+        long[][] chunks = new long[count][];
+        for (int c = 0; c < count; c++) {
+            chunks[c] = new long[rand.nextInt(length + 1)];
+            for (int i = 0; i < chunks[c].length; i++) {
+                chunks[c][i] = rand.nextInt(201) - 100;
+            }
+        }
+        return chunks;
+    }
+
+    private static LongKadaneResult expected(long[][] chunks) {
+        int n = 0;
+        for (long[] chunk : chunks) {
+            n += chunk.length;
+        }
+        long[] all = new long[n];
+        int pos = 0;
+        for (long[] chunk : chunks) {
+            System.arraycopy(chunk, 0, all, pos, chunk.length);
+            pos += chunk.length;
+        }
+        KadaneResult r = Kadane.run(all);
+        return new LongKadaneResult(r.maxSum(), r.startIndex(), r.endIndex());
+    }
+
+    @Test
+    void publishesOnlyChangesAndEndsWithTheRunResult() throws Exception {
+        long[][] chunks = chunks(500, 64, 1);
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(8);
+        Recorder recorder = new Recorder(1, true);
+        processor.subscribe(recorder);
+        try (SubmissionPublisher<long[]> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            for (long[] chunk : chunks) {
+                publisher.submit(chunk);
+            }
+        }
+        recorder.completion.get(10, TimeUnit.SECONDS);
+        assertEquals(expected(chunks), processor.getResult());
+        assertEquals(chunks.length, processor.getChunks());
+        assertFalse(recorder.results.isEmpty());
+        assertEquals(expected(chunks), recorder.results.get(recorder.results.size() - 1));
+        for (int i = 1; i < recorder.results.size(); i++) {
+            assertNotEquals(recorder.results.get(i - 1), recorder.results.get(i));
+            assertTrue(recorder.results.get(i).maxSum() > recorder.results.get(i - 1).maxSum());
+        }
+    }
+
+    @Test
+    void upstreamDemandComesInBatches() {
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(4, Runnable::run);
+        RecordingSubscription upstream = new RecordingSubscription();
+        processor.onSubscribe(upstream);
+        for (int c = 0; c < 10; c++) {
+            processor.onNext(new long[]{c % 3 - 1});
+        }
+        assertEquals(List.of(4L, 4L, 4L), upstream.requests);
+
+        RecordingSubscription second = new RecordingSubscription();
+        processor.onSubscribe(second);
+        assertTrue(second.cancelled);
+        assertTrue(second.requests.isEmpty());
+
+        processor.cancel();
+        assertTrue(upstream.cancelled);
+        assertTrue(processor.isDone());
+        assertEquals(new LongKadaneResult(1L, 1L, 2L), processor.getResult());
+    }
+
+    @Test
+    void blockedSubscriberDoesNotStallTheProducer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(2);
+        Recorder slow = new Recorder(1, false) {
+            @Override
+            public void onNext(LongKadaneResult item) {
+                super.onNext(item);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        processor.subscribe(slow);
+        RecordingSubscription upstream = new RecordingSubscription();
+        processor.onSubscribe(upstream);
+        long[][] chunks = new long[1000][];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = new long[]{1};
+            processor.onNext(chunks[c]);
+        }
+        processor.onComplete();
+        assertEquals(chunks.length, processor.getChunks());
+        assertEquals(new LongKadaneResult(1000L, 0L, 999L), processor.getResult());
+
+        release.countDown();
+        assertTrue(slow.subscribed.await(10, TimeUnit.SECONDS));
+        slow.subscription.request(Long.MAX_VALUE);
+        slow.completion.get(10, TimeUnit.SECONDS);
+        // the first delivery, then only the newest result, no backlog
+        assertTrue(slow.results.size() <= 2, "results " + slow.results.size());
+        assertEquals(new LongKadaneResult(1000L, 0L, 999L), slow.results.get(slow.results.size() - 1));
+
+        Recorder late = new Recorder(1, false);
+        processor.subscribe(late);
+        late.completion.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(new LongKadaneResult(1000L, 0L, 999L)), late.results);
+    }
+
+    @Test
+    void throwingSubscriberIsCancelled() throws Exception {
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(1, Runnable::run);
+        Recorder throwing = new Recorder(Long.MAX_VALUE, false) {
+            @Override
+            public void onNext(LongKadaneResult item) {
+                super.onNext(item);
+                throw new IllegalStateException("subscriber failed");
+            }
+        };
+        Recorder healthy = new Recorder(Long.MAX_VALUE, false);
+        processor.subscribe(throwing);
+        processor.subscribe(healthy);
+        processor.onSubscribe(new RecordingSubscription());
+        processor.onNext(new long[]{1});
+        processor.onNext(new long[]{2});
+        processor.onComplete();
+        assertEquals(List.of(new LongKadaneResult(1L, 0L, 0L)), throwing.results);
+        assertEquals(0, throwing.terminals.get());
+        assertEquals(List.of(new LongKadaneResult(1L, 0L, 0L), new LongKadaneResult(3L, 0L, 1L)), healthy.results);
+        healthy.completion.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void cancelEndsSubscribersOnce() throws Exception {
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(1, Runnable::run);
+        Recorder recorder = new Recorder(Long.MAX_VALUE, false);
+        processor.subscribe(recorder);
+        RecordingSubscription upstream = new RecordingSubscription();
+        processor.onSubscribe(upstream);
+        processor.onNext(new long[]{5});
+        processor.cancel();
+        processor.onComplete();
+        processor.onError(new IllegalStateException("after cancel"));
+        processor.cancel();
+        recorder.completion.get(10, TimeUnit.SECONDS);
+        assertTrue(upstream.cancelled);
+        assertEquals(1, recorder.terminals.get());
+
+        Recorder late = new Recorder(1, false);
+        processor.subscribe(late);
+        late.completion.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(new LongKadaneResult(5L, 0L, 0L)), late.results);
+    }
+
+    @Test
+    void flowContract() throws Exception {
+        KadaneFlowProcessor processor = new KadaneFlowProcessor(1, Runnable::run);
+        Recorder invalid = new Recorder(0, false);
+        processor.subscribe(invalid);
+        Exception e = assertThrows(Exception.class, () -> invalid.completion.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+
+        Recorder recorder = new Recorder(5, false);
+        processor.subscribe(recorder);
+        processor.onSubscribe(new RecordingSubscription());
+        processor.onNext(new long[]{-3});
+        processor.onNext(new long[]{-1, -2});
+        processor.onNext(new long[0]);
+        assertEquals(List.of(new LongKadaneResult(-3L, 0L, 0L), new LongKadaneResult(-1L, 1L, 1L)), recorder.results);
+        assertThrows(NullPointerException.class, () -> processor.onNext(null));
+        processor.onError(new IllegalStateException("source failed"));
+        e = assertThrows(Exception.class, () -> recorder.completion.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        assertThrows(IllegalArgumentException.class, () -> new KadaneFlowProcessor(0));
+        assertThrows(IllegalArgumentException.class, () -> new KadaneFlowProcessor(1, null));
+    }
+}
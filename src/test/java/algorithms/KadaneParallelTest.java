@@ -0,0 +1,114 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for the parallel fork/join engine and KadaneSummary merging.
+  Verifies:
+    - runParallel returns exactly the sequential KadaneResult (including tie-breaking on indices)
+    - merging summaries of arbitrary splits equals the summary of the whole range
+    - argument validation and the sequential fallback below the threshold
+*/
+class KadaneParallelTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void nullInputThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runParallel(null, pool));
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runParallel(new long[1], null));
+        assertThrows(IllegalArgumentException.class, () -> Kadane.runParallel(new long[1], pool, 0));
+    }
+
+    @Test
+    void emptyArrayReturnsZeroAndInvalidIndices() {
+        assertEquals(new KadaneResult(0L, -1, -1), Kadane.runParallel(new long[0], pool, 1));
+    }
+
+    @Test
+    void classicalExampleWithTinyChunks() {
+        long[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        assertEquals(new KadaneResult(6L, 3, 6), Kadane.runParallel(array, pool, 1));
+    }
+
+    @Test
+    void tiesMatchSequentialIndices() {
+        // many zeros and small values create lots of equal-sum candidates
+        Random rand = new Random(7);
+        for (int t = 0; t < 300; t++) {
+            long[] array = new long[1 + rand.nextInt(80)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(5) - 2;
+            }
+            for (int threshold = 1; threshold <= 9; threshold += 4) {
+                assertEquals(Kadane.run(array), Kadane.runParallel(array, pool, threshold),
+                        "Mismatch for input: " + Arrays.toString(array) + " threshold=" + threshold);
+            }
+        }
+    }
+
+    @Test
+    void randomArraysCompareWithBruteForce() {
+        Random rand = new Random(12345);
+        for (int t = 0; t < 100; t++) {
+            long[] array = new long[1 + rand.nextInt(50)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(201) - 100;
+            }
+            assertEquals(bruteForce(array), Kadane.runParallel(array, pool, 3),
+                    "Mismatch for input: " + Arrays.toString(array));
+        }
+    }
+
+    @Test
+    void largeInputsMatchSequential() {
+        long[][] arrays = {
+                generateRandomArray(300_000),
+                generateAllNegativeArray(300_000),
+                generateReverseSortedArray(300_000)
+        };
+        for (long[] array : arrays) {
+            assertEquals(Kadane.run(array), Kadane.runParallel(array, pool, 1000));
+            assertEquals(Kadane.run(array), Kadane.runParallel(array, pool));
+        }
+    }
+
+    @Test
+    void mergedSummariesEqualWholeSummary() {
+        Random rand = new Random(99);
+        for (int t = 0; t < 200; t++) {
+            long[] array = new long[rand.nextInt(40)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(7) - 3;
+            }
+            int cut = array.length == 0 ? 0 : rand.nextInt(array.length + 1);
+            KadaneSummary merged = KadaneSummary.of(array, 0, cut).merge(KadaneSummary.of(array, cut, array.length));
+            assertEquals(KadaneSummary.of(array, 0, array.length), merged, "Mismatch for input: " + Arrays.toString(array));
+        }
+    }
+
+    @Test
+    void mergeRejectsNonAdjacentSegments() {
+        long[] array = {1, 2, 3, 4};
+        assertThrows(IllegalArgumentException.class,
+                () -> KadaneSummary.of(array, 0, 1).merge(KadaneSummary.of(array, 2, 4)));
+    }
+}
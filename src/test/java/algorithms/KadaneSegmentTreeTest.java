@@ -0,0 +1,74 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for KadaneSegmentTree.
+  Verifies:
+    - range queries equal Kadane.run on the copied range (indices shifted to the full array)
+    - results stay correct after random point updates
+    - argument validation and empty ranges
+*/
+class KadaneSegmentTreeTest {
+
+    private static KadaneResult expected(long[] array, int from, int to) {
+        KadaneResult r = Kadane.run(Arrays.copyOfRange(array, from, to));
+        if (from == to) {
+            return r;
+        }
+        return new KadaneResult(r.maxSum(), r.startIndex() + from, r.endIndex() + from);
+    }
+
+    @Test
+    void wholeRangeMatchesRun() {
+        long[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneSegmentTree tree = new KadaneSegmentTree(array);
+        assertEquals(Kadane.run(array), tree.query());
+    }
+
+    @Test
+    void randomQueriesAndUpdatesMatchRun() {
+        Random rand = new Random(31);
+        for (int t = 0; t < 30; t++) {
+            long[] array = new long[1 + rand.nextInt(70)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(9) - 4;
+            }
+            KadaneSegmentTree tree = new KadaneSegmentTree(array);
+            for (int step = 0; step < 200; step++) {
+                if (rand.nextInt(3) == 0) {
+                    int index = rand.nextInt(array.length);
+                    array[index] = rand.nextInt(9) - 4;
+                    tree.update(index, array[index]);
+                    assertEquals(array[index], tree.get(index));
+                }
+                int from = rand.nextInt(array.length + 1);
+                int to = from + rand.nextInt(array.length - from + 1);
+                assertEquals(expected(array, from, to), tree.query(from, to),
+                        "Mismatch for range [" + from + ", " + to + ") of " + Arrays.toString(array));
+            }
+        }
+    }
+
+    @Test
+    void emptyTreeAndEmptyRange() {
+        KadaneSegmentTree empty = new KadaneSegmentTree(new long[0]);
+        assertEquals(new KadaneResult(0L, -1, -1), empty.query());
+        KadaneSegmentTree tree = new KadaneSegmentTree(new long[]{1, 2, 3});
+        assertEquals(new KadaneResult(0L, -1, -1), tree.query(2, 2));
+    }
+
+    @Test
+    void invalidArgumentsThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new KadaneSegmentTree(null));
+        KadaneSegmentTree tree = new KadaneSegmentTree(new long[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> tree.query(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.query(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> tree.update(3, 0));
+    }
+}
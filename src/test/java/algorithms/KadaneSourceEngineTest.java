@@ -0,0 +1,108 @@
+package algorithms;
+
+import cli.DataGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for KadaneSourceEngine over virtual datasets.
+  Verifies:
+    - sequential and parallel scans match Kadane.run on the materialized array for every input type
+    - block and leaf boundaries do not change the result (small blocks, sizes off by one)
+    - offsets beyond Integer.MAX_VALUE on a source that is never materialized
+*/
+public class KadaneSourceEngineTest {
+    private static final String[] TYPES = {"random", "sorted", "reverse_sorted", "all_positive", "all_negative", "nearly_sorted"};
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static long[] materialize(LongSource source) {
+        long[] array = new long[(int) source.size()];
+        source.read(0, array, 0, array.length);
+        return array;
+    }
+
+    @Test
+    void virtualDatasetsMatchMaterializedArrays() {
+        for (String type : TYPES) {
+            for (int size : new int[]{0, 1, 1023, 1025, 100_003}) {
+                LongSource source = DataGenerator.virtual(size, type, 9);
+                KadaneResult expected = Kadane.run(materialize(source));
+                assertEquals(expected, KadaneSourceEngine.run(source).toKadaneResult(), type + "/" + size);
+                assertEquals(expected, KadaneSourceEngine.runParallel(source, pool, 97).toKadaneResult(), type + "/" + size);
+            }
+        }
+    }
+
+    @Test
+    void parallelSplitsMatchSequentialScan() {
+        LongSource source = DataGenerator.virtual(KadaneSourceEngine.TASK_ELEMENTS * 3 + 12_345, "random", 3);
+        LongKadaneResult sequential = KadaneSourceEngine.run(source);
+        assertEquals(sequential, KadaneSourceEngine.runParallel(source, pool));
+        assertEquals(sequential, KadaneSourceEngine.runParallel(source, pool, 1000));
+    }
+
+    @Test
+    void defaultReadOnAnyLongSource() {
+        long[] values = new Random(5).longs(5_000, -100, 100).toArray();
+        LongSource source = new LongSource() {
+            @Override
+            public long size() {
+                return values.length;
+            }
+
+            @Override
+            public long get(long index) {
+                return values[(int) index];
+            }
+        };
+        assertEquals(Kadane.run(values), KadaneSourceEngine.runParallel(source, pool, 64).toKadaneResult());
+        assertThrows(IllegalArgumentException.class, () -> source.read(4_999, new long[2], 0, 2));
+    }
+
+    @Test
+    void longOffsetsOnHugeVirtualSource() {
+        long size = 10_000_000_000L;
+        LongSource source = DataGenerator.virtual(size, "random", 1);
+        long from = 6_000_000_000L;
+        int length = 50_000;
+        long[] slice = new long[length];
+        source.read(from, slice, 0, length);
+        KadaneResult local = Kadane.run(slice);
+
+        LongKadaneResult result = KadaneSourceEngine.summarize(source, from, from + length, 4096).toLongKadaneResult();
+        assertEquals(local.getMaxSum(), result.getMaxSum());
+        assertEquals(from + local.getStartIndex(), result.getStartIndex());
+        assertEquals(from + local.getEndIndex(), result.getEndIndex());
+
+        LongKadaneResult tail = KadaneSourceEngine.summarize(DataGenerator.virtual(size, "all_negative", 1),
+                size - 10, size, 3).toLongKadaneResult();
+        assertEquals(size - 10, tail.getStartIndex());
+        assertEquals(-(size - 9), tail.getMaxSum());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        LongSource source = DataGenerator.virtual(10, "sorted", 1);
+        assertThrows(IllegalArgumentException.class, () -> KadaneSourceEngine.run(null));
+        assertThrows(IllegalArgumentException.class, () -> KadaneSourceEngine.run(source, 0));
+        assertThrows(IllegalArgumentException.class, () -> KadaneSourceEngine.runParallel(source, null));
+        assertThrows(IllegalArgumentException.class, () -> KadaneSourceEngine.summarize(source, 5, 11, 4));
+    }
+}
@@ -0,0 +1,154 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the ASCII text engine.
+  Verifies:
+    - newline, CRLF, comma and mixed separators parse to the same values as Long.parseLong
+    - every chunk size (values split across chunk boundaries) and the parallel scan match Kadane.run
+    - long range limits, signs, empty files and separator-only files
+    - malformed values and overflow are rejected with their byte offset
+*/
+class KadaneTextEngineTest {
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private Path write(String name, String text) throws IOException {
+        return Files.writeString(dir.resolve(name), text, StandardCharsets.US_ASCII);
+    }
+
+    private static LongKadaneResult expected(long[] values) {
+        KadaneResult r = Kadane.run(values);
+        return new LongKadaneResult(r.maxSum(), r.startIndex(), r.endIndex());
+    }
+
+    private static String join(long[] values, String separator) {
+        StringBuilder text = new StringBuilder();
+        for (long value : values) {
+            text.append(value).append(separator);
+        }
+        return text.toString();
+    }
+
+    @Test
+    void separatorsAndChunkSizes() throws IOException {
+        Random rand = new Random(5);
+        long[] values = new long[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(2001) - 1000;
+        }
+        LongKadaneResult expected = expected(values);
+        for (String separator : new String[]{"\n", "\r\n", ",", ", ", "\t"}) {
+            Path file = write("values.txt", join(values, separator));
+            assertEquals(expected, KadaneTextEngine.run(file), "separator " + separator.replace("\n", "\\n"));
+            assertEquals(expected, KadaneTextEngine.runParallel(file, pool));
+            for (int chunk : new int[]{1, 2, 3, 7, 64, 1000}) {
+                assertEquals(expected, KadaneTextEngine.run(file, chunk), "chunk " + chunk);
+                assertEquals(expected, KadaneTextEngine.runParallel(file, pool, chunk), "parallel chunk " + chunk);
+            }
+        }
+    }
+
+    @Test
+    void largeRandomFileWithoutTrailingSeparator() throws IOException {
+        Random rand = new Random(9);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextBoolean() ? rand.nextInt(100) - 50 : rand.nextLong() >> 20;
+        }
+        String text = join(values, "\n");
+        Path file = write("large.txt", text.substring(0, text.length() - 1));
+        LongKadaneResult expected = expected(values);
+        assertEquals(expected, KadaneTextEngine.run(file, 4096));
+        assertEquals(expected, KadaneTextEngine.runParallel(file, pool, 4093));
+    }
+
+    @Test
+    void limitsSignsAndEmptyInput() throws IOException {
+        Path limits = write("limits.txt", "+9223372036854775807\n-9223372036854775808,0\n-0 +17\n");
+        try (FileChannel channel = FileChannel.open(limits, StandardOpenOption.READ)) {
+            KadaneSummary summary = KadaneTextEngine.summarize(channel, 0, channel.size(), 5);
+            assertEquals(5, summary.length());
+            assertEquals(16, summary.total());
+            assertEquals(Long.MAX_VALUE, summary.bestSum());
+        }
+        assertEquals(new LongKadaneResult(0L, -1L, -1L), KadaneTextEngine.run(write("empty.txt", "")));
+        assertEquals(new LongKadaneResult(0L, -1L, -1L), KadaneTextEngine.runParallel(write("blank.txt", " ,\n\r\n\t"), pool, 2));
+        assertEquals(new LongKadaneResult(-3L, 1L, 1L), KadaneTextEngine.run(write("negative.txt", "-5\n-3\n-4")));
+    }
+
+    @Test
+    void summarizeByteRangesMerge() throws IOException {
+        long[] values = {4, -7, 12, -1, -1, 9, -30, 8, 8};
+        Path file = write("ranges.txt", join(values, "\n"));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long cut = 0; cut <= size; cut++) {
+                KadaneSummary left = KadaneTextEngine.summarize(channel, 0, cut, 3);
+                KadaneSummary right = KadaneTextEngine.summarize(channel, cut, size, 3);
+                KadaneSummary merged = left.merge(right.withOffset(left.length()));
+                assertEquals(values.length, merged.length(), "cut " + cut);
+                assertEquals(expected(values), merged.toLongKadaneResult(), "cut " + cut);
+            }
+        }
+    }
+
+    @Test
+    void malformedValuesAreRejected() throws IOException {
+        String[] bad = {"12a\n", "1-2\n", "- 5\n", "+\n", "1;2\n", "9223372036854775808\n",
+                "-9223372036854775809\n", "99999999999999999999\n", "00000000000000000001\n"};
+        for (String text : bad) {
+            Path file = write("bad.txt", "1\n" + text + "3\n");
+            NumberFormatException e = assertThrows(NumberFormatException.class, () -> KadaneTextEngine.run(file), text);
+            assertTrue(e.getMessage().contains("at byte 2"), e.getMessage());
+            assertThrows(NumberFormatException.class, () -> KadaneTextEngine.runParallel(file, pool, 3), text);
+        }
+        Path file = write("ok.txt", "1\n2\n");
+        assertThrows(IllegalArgumentException.class, () -> KadaneTextEngine.run(file, 0));
+        assertThrows(IllegalArgumentException.class, () -> KadaneTextEngine.runParallel(file, null));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IllegalArgumentException.class, () -> KadaneTextEngine.summarize(channel, 2, 1, 8));
+            assertThrows(IllegalArgumentException.class, () -> KadaneTextEngine.summarize(channel, 0, 99, 8));
+        }
+    }
+
+    @Test
+    void withOffsetShiftsPositions() {
+        KadaneSummary summary = KadaneSummary.of(new long[]{-1, 5, -2, 3}, 0, 4);
+        KadaneSummary moved = summary.withOffset(10);
+        assertEquals(10, moved.offset());
+        assertEquals(summary.bestStart() + 10, moved.bestStart());
+        assertEquals(summary.bestEnd() + 10, moved.bestEnd());
+        assertEquals(summary.prefixEnd() + 10, moved.prefixEnd());
+        assertEquals(summary.suffixStart() + 10, moved.suffixStart());
+        assertEquals(KadaneSummary.empty(3), KadaneSummary.empty(0).withOffset(3));
+        assertThrows(IllegalArgumentException.class, () -> summary.withOffset(-1));
+    }
+}
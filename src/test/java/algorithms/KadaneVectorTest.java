@@ -0,0 +1,57 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for the Vector API engine.
+  Verifies:
+    - same KadaneResult (sum and indices) as Kadane.run, including ties and lengths
+      that are not a multiple of the lane count
+    - edge cases: null, empty, all negative
+*/
+class KadaneVectorTest {
+
+    @Test
+    void nullAndEmptyInput() {
+        assertThrows(IllegalArgumentException.class, () -> KadaneVector.run(null));
+        assertEquals(new KadaneResult(0L, -1, -1), KadaneVector.run(new long[0]));
+    }
+
+    @Test
+    void classicalExample() {
+        assertEquals(new KadaneResult(6L, 3, 6), KadaneVector.run(new long[]{-2, 1, -3, 4, -1, 2, 1, -5, 4}));
+    }
+
+    @Test
+    void randomArraysWithTiesMatchRun() {
+        Random rand = new Random(77);
+        for (int t = 0; t < 2000; t++) {
+            long[] array = new long[1 + rand.nextInt(70)];
+            int spread = 1 + rand.nextInt(6);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rand.nextInt(2 * spread + 1) - spread;
+            }
+            assertEquals(Kadane.run(array), KadaneVector.run(array), "Mismatch for input: " + Arrays.toString(array));
+        }
+    }
+
+    @Test
+    void largeInputsMatchRun() {
+        long[][] arrays = {
+                generateRandomArray(100_003),
+                generateAllNegativeArray(50_001),
+                generateAllPositiveArray(50_000),
+                generateReverseSortedArray(4_099),
+                generateNearlySortedArray(10_000)
+        };
+        for (long[] array : arrays) {
+            assertEquals(Kadane.run(array), KadaneVector.run(array));
+        }
+    }
+}
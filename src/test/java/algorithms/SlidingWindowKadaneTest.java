@@ -0,0 +1,74 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for SlidingWindowKadane.
+  Verifies:
+    - every tick matches Kadane.run over a copy of the last W samples (indices shifted)
+    - the batch API writes the same per-tick results
+    - argument validation
+*/
+class SlidingWindowKadaneTest {
+
+    private static LongKadaneResult expected(long[] values, int window, int t) {
+        int from = Math.max(0, t - window + 1);
+        KadaneResult r = Kadane.run(Arrays.copyOfRange(values, from, t + 1));
+        return new LongKadaneResult(r.maxSum(), r.startIndex() + from, r.endIndex() + from);
+    }
+
+    @Test
+    void everyTickMatchesRunOverWindow() {
+        Random rand = new Random(5);
+        for (int t = 0; t < 40; t++) {
+            long[] values = new long[1 + rand.nextInt(120)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rand.nextInt(7) - 3;
+            }
+            int window = 1 + rand.nextInt(15);
+            SlidingWindowKadane sliding = new SlidingWindowKadane(window);
+            for (int tick = 0; tick < values.length; tick++) {
+                sliding.accept(values[tick]);
+                assertEquals(expected(values, window, tick), sliding.result(),
+                        "Mismatch at tick " + tick + " window " + window + " for " + Arrays.toString(values));
+                assertEquals(Math.min(window, tick + 1), sliding.size());
+            }
+        }
+    }
+
+    @Test
+    void batchMatchesStreaming() {
+        long[] values = generateRandomArray(2000);
+        int window = 64;
+        long[] sums = new long[values.length];
+        int[] starts = new int[values.length];
+        int[] ends = new int[values.length];
+        SlidingWindowKadane.runBatch(values, window, sums, starts, ends);
+        assertArrayEquals(sums, SlidingWindowKadane.runBatch(values, window));
+        for (int t = 0; t < values.length; t += 97) {
+            assertEquals(expected(values, window, t), new LongKadaneResult(sums[t], starts[t], ends[t]));
+        }
+    }
+
+    @Test
+    void windowOfOneReturnsLatestSample() {
+        SlidingWindowKadane sliding = new SlidingWindowKadane(1);
+        sliding.accept(5);
+        sliding.accept(-3);
+        assertEquals(new LongKadaneResult(-3L, 1L, 1L), sliding.result());
+    }
+
+    @Test
+    void invalidArgumentsThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowKadane(0));
+        assertThrows(IllegalArgumentException.class, () -> SlidingWindowKadane.runBatch(null, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> SlidingWindowKadane.runBatch(new long[4], 2, new long[3], null, null));
+    }
+}
@@ -0,0 +1,66 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the --fork child protocol parser.
+  Verifies:
+    - @trial and @steady lines reach the handler with every field
+    - other child output is not a protocol line
+    - wrong field counts, malformed numbers and flags are rejected
+*/
+class BenchmarkRunnerTest {
+
+    // records every parsed line as text
+    private static final class Recorder implements BenchmarkRunner.ChildLineHandler {
+        final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void onTrial(int trial, long timeNs, long comparisons, long arrayAccesses, long assignments,
+                            long additions) {
+            lines.add("trial " + trial + " " + timeNs + " " + comparisons + " " + arrayAccesses + " "
+                    + assignments + " " + additions);
+        }
+
+        @Override
+        public void onSteadyState(int iterations, boolean steady) {
+            lines.add("steady " + iterations + " " + steady);
+        }
+    }
+
+    @Test
+    void protocolLinesReachTheHandler() throws IOException {
+        Recorder recorder = new Recorder();
+        assertTrue(BenchmarkRunner.parseChildLine("@trial 3 1500000 10 20 30 40", recorder));
+        assertTrue(BenchmarkRunner.parseChildLine("@steady 12 false", recorder));
+        assertTrue(BenchmarkRunner.parseChildLine("@steady 5 true", recorder));
+        assertEquals(List.of("trial 3 1500000 10 20 30 40", "steady 12 false", "steady 5 true"), recorder.lines);
+    }
+
+    @Test
+    void otherOutputIsPassedThrough() throws IOException {
+        Recorder recorder = new Recorder();
+        for (String line : new String[]{"", "DatasetCache [hits=1]", "    Trial 1: 2 ms", "@trials 1 2 3 4 5 6",
+                "@steadyState 1 true", "@trial"}) {
+            assertFalse(BenchmarkRunner.parseChildLine(line, recorder), line);
+        }
+        assertTrue(recorder.lines.isEmpty());
+    }
+
+    @Test
+    void malformedLinesAreRejected() {
+        Recorder recorder = new Recorder();
+        for (String line : new String[]{"@trial 1 2 3 4 5", "@trial 1 2 3 4 5 6 7", "@trial x 2 3 4 5 6",
+                "@trial 1 2.5 3 4 5 6", "@trial 1  2 3 4 5 6", "@steady 3", "@steady 3 yes", "@steady x true",
+                "@steady 3 true extra"}) {
+            assertThrows(IllegalArgumentException.class, () -> BenchmarkRunner.parseChildLine(line, recorder), line);
+        }
+        assertTrue(recorder.lines.isEmpty());
+    }
+}
@@ -0,0 +1,201 @@
+package cli;
+
+import algorithms.Kadane;
+import algorithms.KadaneResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the embedded HTTP service (real server on a free loopback port).
+  Verifies:
+    - JSON and binary bodies return the same result as Kadane.run, including empty and long arrays
+    - requests waiting together are answered by one KadaneBatch call
+    - a full admission queue answers 503 with Retry-After, the admitted requests still complete
+    - the queued byte limit answers 503 when full and 413 for arrays larger than the whole limit
+    - malformed bodies, wrong methods and content types are rejected, /stats reports the counters
+*/
+class KadaneServerTest {
+    private KadaneServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = KadaneServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4, 2, 16);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpRequest json(String body) {
+        return HttpRequest.newBuilder(uri("/kadane")).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest json(long[] values) {
+        return json(Arrays.stream(values).mapToObj(Long::toString).collect(Collectors.joining(",", "[", "]")));
+    }
+
+    private HttpRequest binary(long[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(values);
+        return HttpRequest.newBuilder(uri("/kadane")).header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(buffer.array())).build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String expected(long[] values) {
+        KadaneResult r = Kadane.run(values);
+        return "{\"maxSum\":" + r.maxSum() + ",\"startIndex\":" + r.startIndex() + ",\"endIndex\":" + r.endIndex() + "}";
+    }
+
+    private static long[] values(int n, long seed) {
+        Random rand = new Random(seed);
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = rand.nextInt(201) - 100;
+        }
+        return values;
+    }
+
+    @Test
+    void jsonAndBinaryMatchRun() throws Exception {
+        for (long[] values : new long[][]{{}, {-5}, {-2, 1, -3, 4, -1, 2, 1, -5, 4},
+                {Long.MIN_VALUE, Long.MAX_VALUE}, values(KadaneServer.PACKED_MAX_LENGTH + 1, 1), values(100_000, 2)}) {
+            HttpResponse<String> response = send(json(values));
+            assertEquals(200, response.statusCode(), response.body());
+            assertEquals(expected(values), response.body());
+            assertEquals(expected(values), send(binary(values)).body());
+        }
+        assertEquals(expected(new long[]{3, -1, 2}), send(json(" [ 3 ,\n-1,\t2 ] ")).body());
+        assertEquals(13, server.getCompleted());
+    }
+
+    @Test
+    void queuedRequestsShareOneBatchAndOverflowIsRejected() throws Exception {
+        ReentrantLock lock = server.batchLock();
+        List<CompletableFuture<HttpResponse<String>>> admitted = new ArrayList<>();
+        long[][] inputs = {values(50, 3), values(70, 4)};
+        lock.lock();
+        try {
+            for (long[] values : inputs) {
+                admitted.add(client.sendAsync(json(values), HttpResponse.BodyHandlers.ofString()));
+            }
+            while (server.getQueued() < 2) {
+                Thread.sleep(5);
+            }
+            HttpResponse<String> overflow = send(json(new long[]{1, 2}));
+            assertEquals(503, overflow.statusCode());
+            assertTrue(overflow.headers().firstValue("Retry-After").isPresent());
+        } finally {
+            lock.unlock();
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            HttpResponse<String> response = admitted.get(i).join();
+            assertEquals(200, response.statusCode());
+            assertEquals(expected(inputs[i]), response.body());
+        }
+        assertEquals(1, server.getRejected());
+        assertEquals(1, server.getBatches());
+        assertEquals(2, server.getBatchedRequests());
+        assertEquals(120, server.getTracker().getArrayAccesses());
+        assertEquals(2, server.getLatency().getCount());
+    }
+
+    @Test
+    void queuedBytesAreBounded() throws Exception {
+        server.close();
+        server = KadaneServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4, 16, 16, 1000);
+        ReentrantLock lock = server.batchLock();
+        long[] first = values(100, 5);
+        CompletableFuture<HttpResponse<String>> admitted;
+        lock.lock();
+        try {
+            admitted = client.sendAsync(json(first), HttpResponse.BodyHandlers.ofString());
+            while (server.getQueued() < 1) {
+                Thread.sleep(5);
+            }
+            assertEquals(800, server.getQueuedBytes());
+            HttpResponse<String> full = send(json(values(50, 6)));
+            assertEquals(503, full.statusCode());
+            assertTrue(full.headers().firstValue("Retry-After").isPresent());
+            assertEquals(413, send(json(values(200, 7))).statusCode());
+        } finally {
+            lock.unlock();
+        }
+        assertEquals(expected(first), admitted.join().body());
+        assertEquals(0, server.getQueuedBytes());
+        assertEquals(expected(new long[]{4, -1, 2}), send(json(new long[]{4, -1, 2})).body());
+        assertEquals(1, server.getRejected());
+        assertEquals(1, server.getInvalid());
+    }
+
+    @Test
+    void invalidRequestsAreRejected() throws Exception {
+        for (String body : new String[]{"", "[", "[1,]", "[,1]", "[1 2]", "[1.5]", "[\"1\"]", "{}", "[1]x",
+                "[9223372036854775808]", "[-9223372036854775809]", "[--1]"}) {
+            assertEquals(400, send(json(body)).statusCode(), body);
+        }
+        assertEquals(400, send(HttpRequest.newBuilder(uri("/kadane")).header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(new byte[12])).build()).statusCode());
+        assertEquals(415, send(HttpRequest.newBuilder(uri("/kadane")).header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("[1]")).build()).statusCode());
+        assertEquals(405, send(HttpRequest.newBuilder(uri("/kadane")).GET().build()).statusCode());
+        assertEquals(404, send(HttpRequest.newBuilder(uri("/kadane/x")).POST(HttpRequest.BodyPublishers.ofString("[1]"))
+                .build()).statusCode());
+        assertEquals(13, server.getInvalid());
+        assertEquals(0, server.getAdmitted());
+    }
+
+    @Test
+    void statsReportCounters() throws Exception {
+        send(json(new long[]{1, -2, 3}));
+        HttpResponse<String> stats = send(HttpRequest.newBuilder(uri("/stats")).GET().build());
+        assertEquals(200, stats.statusCode());
+        assertTrue(stats.body().contains("\"completed\":1"), stats.body());
+        assertTrue(stats.body().contains("\"values\":3"), stats.body());
+        assertTrue(stats.body().contains("\"p99\":"), stats.body());
+    }
+
+    @Test
+    void parsersAndArguments() {
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE},
+                KadaneServer.parseJson("[-9223372036854775808,-0,9223372036854775807]".getBytes()));
+        assertArrayEquals(new long[0], KadaneServer.parseJson(" [ ] ".getBytes()));
+        assertArrayEquals(new long[]{-1, 2}, KadaneServer.parseBinary(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, 2, 0, 0, 0, 0, 0, 0, 0}));
+        InetSocketAddress any = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        assertThrows(IllegalArgumentException.class, () -> KadaneServer.start(any, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> KadaneServer.start(any, 1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> KadaneServer.start(any, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> KadaneServer.start(any, 1, 1, 1, 0));
+    }
+}
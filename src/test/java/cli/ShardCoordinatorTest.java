@@ -0,0 +1,142 @@
+package cli;
+
+import algorithms.Kadane;
+import algorithms.KadaneResult;
+import algorithms.KadaneSummary;
+import algorithms.LongKadaneResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the coordinator/worker mode (real worker JVMs on loopback sockets).
+  Verifies:
+    - text and binary files scanned by workers match Kadane.run, for many range counts
+    - a crashed or hung worker's range is reassigned, the scan fails only when no worker is left
+    - malformed input is reported without retrying, workers stay usable
+    - byte range bounds and the summary wire format
+*/
+class ShardCoordinatorTest {
+    @TempDir
+    Path dir;
+
+    private static long[] values(int n, long seed) {
+        Random rand = new Random(seed);
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = rand.nextInt(2001) - 1000;
+        }
+        return values;
+    }
+
+    private static LongKadaneResult expected(long[] values) {
+        KadaneResult r = Kadane.run(values);
+        return new LongKadaneResult(r.maxSum(), r.startIndex(), r.endIndex());
+    }
+
+    private Path writeText(String name, long[] values) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (long value : values) {
+            text.append(value).append('\n');
+        }
+        return Files.writeString(dir.resolve(name), text);
+    }
+
+    private Path writeBinary(String name, long[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(values);
+        return Files.write(dir.resolve(name), buffer.array());
+    }
+
+    @Test
+    void workersMatchRunForTextAndBinary() throws IOException {
+        long[] values = values(20_000, 3);
+        Path text = writeText("values.txt", values);
+        Path binary = writeBinary("values.bin", values);
+        try (ShardCoordinator coordinator = ShardCoordinator.start(2, List.of(), 4096)) {
+            assertEquals(expected(values), coordinator.scan(text, ShardCoordinator.Format.TEXT));
+            assertEquals(expected(values), coordinator.scan(binary, ShardCoordinator.Format.BINARY));
+            for (int ranges : new int[]{1, 3, 17, 200}) {
+                KadaneSummary summary = coordinator.summarize(text, ShardCoordinator.Format.TEXT, ranges);
+                assertEquals(values.length, summary.length());
+                assertEquals(expected(values), summary.toLongKadaneResult(), "ranges " + ranges);
+                assertEquals(expected(values),
+                        coordinator.summarize(binary, ShardCoordinator.Format.BINARY, ranges).toLongKadaneResult());
+            }
+            assertEquals(new LongKadaneResult(0L, -1L, -1L),
+                    coordinator.scan(Files.writeString(dir.resolve("empty.txt"), ""), ShardCoordinator.Format.TEXT));
+
+            Path bad = Files.writeString(dir.resolve("bad.txt"), "1\n2\nx\n4\n");
+            assertThrows(IllegalArgumentException.class, () -> coordinator.scan(bad, ShardCoordinator.Format.TEXT));
+            assertThrows(IllegalArgumentException.class, () -> coordinator.scan(text, ShardCoordinator.Format.BINARY));
+            assertEquals(2, coordinator.getLiveWorkers());
+            assertEquals(expected(values), coordinator.scan(text, ShardCoordinator.Format.TEXT));
+        }
+    }
+
+    @Test
+    void crashedWorkerRangeIsReassigned() throws IOException {
+        long[] values = values(5_000, 4);
+        Path text = writeText("values.txt", values);
+        List<String> failFirst = List.of("-D" + ShardCoordinator.FAIL_WORKER_PROPERTY + "=0");
+        try (ShardCoordinator coordinator = ShardCoordinator.start(3, failFirst, 1024)) {
+            assertEquals(expected(values), coordinator.scan(text, ShardCoordinator.Format.TEXT));
+            assertEquals(2, coordinator.getLiveWorkers());
+        }
+        try (ShardCoordinator coordinator = ShardCoordinator.start(1, failFirst)) {
+            IOException e = assertThrows(IOException.class, () -> coordinator.scan(text, ShardCoordinator.Format.TEXT));
+            assertTrue(e.getMessage().contains("All workers failed"), e.getMessage());
+            assertEquals(0, coordinator.getLiveWorkers());
+        }
+    }
+
+    @Test
+    void hungWorkerTimesOutAndItsRangeIsReassigned() throws IOException {
+        long[] values = values(5_000, 5);
+        Path binary = writeBinary("values.bin", values);
+        List<String> hangFirst = List.of("-D" + ShardCoordinator.HANG_WORKER_PROPERTY + "=0");
+        try (ShardCoordinator coordinator = ShardCoordinator.start(2, hangFirst, 1024)) {
+            coordinator.setRangeTimeoutMs(500);
+            assertEquals(expected(values), coordinator.scan(binary, ShardCoordinator.Format.BINARY));
+            assertEquals(1, coordinator.getLiveWorkers());
+            assertThrows(IllegalArgumentException.class, () -> coordinator.setRangeTimeoutMs(0));
+        }
+    }
+
+    @Test
+    void boundsCoverTheFileAligned() {
+        assertArrayEquals(new long[]{0, 0}, ShardCoordinator.bounds(0, 4, 1));
+        assertArrayEquals(new long[]{0, 3}, ShardCoordinator.bounds(3, 4, 8));
+        long[] bounds = ShardCoordinator.bounds(8 * 1001, 7, 8);
+        assertEquals(8, bounds.length);
+        assertEquals(8 * 1001, bounds[7]);
+        for (int r = 1; r < bounds.length; r++) {
+            assertEquals(0, bounds[r] % 8);
+            assertTrue(bounds[r] > bounds[r - 1]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> ShardCoordinator.start(0, List.of()));
+    }
+
+    @Test
+    void summaryWireFormatRoundTrip() throws IOException {
+        KadaneSummary summary = KadaneSummary.of(new long[]{-4, 7, -1, 3, -9}, 0, 5, 1L << 40);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ShardCoordinator.writeSummary(new DataOutputStream(bytes), summary);
+        assertEquals(80, bytes.size());
+        KadaneSummary read = ShardCoordinator.readSummary(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(summary, read);
+    }
+}
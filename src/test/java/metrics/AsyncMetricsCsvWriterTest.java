@@ -0,0 +1,82 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for AsyncMetricsCsvWriter.
+  Verifies:
+    - output is byte-identical to MetricsCsvWriter for the same rows
+    - flush makes appended rows (tracker or raw values) visible, close is idempotent and blocks further writes
+    - small buffers (many hand-offs to the background thread) keep row order
+*/
+public class AsyncMetricsCsvWriterTest {
+
+    private static PerformanceTracker tracker(Random rand) {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.incrementComparisons(rand.nextInt(1_000_000));
+        tracker.incrementArrayAccesses(rand.nextLong() >>> 1);
+        tracker.incrementAssignments(-rand.nextInt(100));
+        tracker.incrementAdditions(rand.nextInt(10));
+        return tracker;
+    }
+
+    @Test
+    void outputIsByteIdenticalToMetricsCsvWriter() throws IOException {
+        File expected = Files.createTempFile("metrics_expected", ".csv").toFile();
+        File actual = Files.createTempFile("metrics_async", ".csv").toFile();
+        expected.deleteOnExit();
+        actual.deleteOnExit();
+
+        Random rand = new Random(11);
+        MetricsCsvWriter.writeHeader(expected);
+        try (AsyncMetricsCsvWriter writer = new AsyncMetricsCsvWriter(actual, false, 256, 2)) {
+            writer.writeHeader();
+            for (int trial = 1; trial <= 500; trial++) {
+                PerformanceTracker tracker = tracker(rand);
+                String inputType = trial % 2 == 0 ? "random" : "nearly_sorted";
+                MetricsCsvWriter.appendLine(expected, "Kadane", inputType, trial * 10, trial, tracker);
+                writer.appendLine("Kadane", inputType, trial * 10, trial, tracker);
+            }
+        }
+        assertArrayEquals(Files.readAllBytes(expected.toPath()), Files.readAllBytes(actual.toPath()));
+    }
+
+    @Test
+    void flushMakesRowsVisibleAndCloseIsFinal() throws IOException {
+        File file = Files.createTempFile("metrics_flush", ".csv").toFile();
+        file.deleteOnExit();
+        AsyncMetricsCsvWriter writer = new AsyncMetricsCsvWriter(file, false);
+        writer.writeHeader();
+        writer.appendLine("Kadane", "sorted", 100, 1, new PerformanceTracker());
+        writer.appendRow("Kadane", "sorted", 100, 2, 3, 4, 5, -6, 7);
+        writer.flush();
+        String content = new String(Files.readAllBytes(file.toPath()));
+        assertTrue(content.startsWith(MetricsCsvWriter.HEADER));
+        assertTrue(content.contains("Kadane,sorted,100,1,0,0,0,0,0"));
+        assertTrue(content.contains("Kadane,sorted,100,2,3,4,5,-6,7"));
+
+        writer.close();
+        writer.close();
+        assertThrows(IOException.class, () -> writer.appendLine("Kadane", "sorted", 100, 2, new PerformanceTracker()));
+    }
+
+    @Test
+    void appendModeKeepsExistingRows() throws IOException {
+        File file = Files.createTempFile("metrics_append", ".csv").toFile();
+        file.deleteOnExit();
+        MetricsCsvWriter.writeHeader(file);
+        try (AsyncMetricsCsvWriter writer = new AsyncMetricsCsvWriter(file, true)) {
+            writer.appendLine("Kadane", "random", 5, 1, new PerformanceTracker());
+        }
+        String content = new String(Files.readAllBytes(file.toPath()));
+        assertEquals(MetricsCsvWriter.HEADER + System.lineSeparator() + "Kadane,random,5,1,0,0,0,0,0" + System.lineSeparator(),
+                content);
+    }
+}
@@ -0,0 +1,101 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for the binary columnar metrics format.
+  Verifies:
+    - single-column aggregation over several row groups
+    - CSV -> binary -> CSV round trip is byte-identical
+    - dictionaries and error handling for broken input
+*/
+public class ColumnarMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void aggregateSingleColumnAcrossRowGroups() throws IOException {
+        File file = dir.resolve("metrics.kmc").toFile();
+        long expectedSum = 0;
+        long expectedMax = Long.MIN_VALUE;
+        try (ColumnarMetricsWriter writer = new ColumnarMetricsWriter(file, 100)) {
+            for (int trial = 1; trial <= 1050; trial++) {
+                PerformanceTracker tracker = new PerformanceTracker();
+                tracker.incrementArrayAccesses(trial * 7L);
+                tracker.incrementComparisons(2000 - trial);
+                writer.appendLine("Kadane", trial % 3 == 0 ? "sorted" : "random", 1000, trial, tracker);
+                expectedSum += trial * 7L;
+                expectedMax = Math.max(expectedMax, 2000 - trial);
+            }
+        }
+        try (ColumnarMetricsReader reader = new ColumnarMetricsReader(file)) {
+            assertEquals(1050, reader.getRowCount());
+            assertEquals(11, reader.getRowGroupCount());
+            assertEquals(List.of("Kadane"), reader.getAlgorithms());
+            assertEquals(List.of("random", "sorted"), reader.getInputTypes());
+
+            ColumnarMetricsReader.ColumnSummary accesses = reader.aggregate("array_accesses");
+            assertEquals(1050, accesses.count());
+            assertEquals(expectedSum, accesses.sum());
+            assertEquals(7, accesses.min());
+            assertEquals(expectedMax, reader.aggregate("comparisons").max());
+
+            List<Long> trials = new ArrayList<>();
+            reader.forEachValue("trial", trials::add);
+            assertEquals(1L, trials.get(0));
+            assertEquals(1050L, trials.get(1049));
+            assertThrows(IllegalArgumentException.class, () -> reader.aggregate("algorithm"));
+        }
+    }
+
+    @Test
+    void csvRoundTripIsByteIdentical() throws IOException {
+        File csv = dir.resolve("in.csv").toFile();
+        File binary = dir.resolve("metrics.kmc").toFile();
+        File back = dir.resolve("out.csv").toFile();
+        Random rand = new Random(4);
+        MetricsCsvWriter.writeHeader(csv);
+        for (int trial = 1; trial <= 300; trial++) {
+            PerformanceTracker tracker = new PerformanceTracker();
+            tracker.incrementComparisons(rand.nextInt(100_000));
+            tracker.incrementAssignments(-rand.nextInt(50));
+            tracker.incrementAdditions(rand.nextLong() >>> 2);
+            MetricsCsvWriter.appendLine(csv, trial % 2 == 0 ? "Kadane" : "KadaneParallel",
+                    trial % 5 == 0 ? "all_negative" : "random", 100 * trial, trial, tracker);
+        }
+        assertEquals(300, ColumnarMetricsConverter.csvToColumnar(csv, binary));
+        assertEquals(300, ColumnarMetricsConverter.columnarToCsv(binary, back));
+        assertArrayEquals(Files.readAllBytes(csv.toPath()), Files.readAllBytes(back.toPath()));
+        assertTrue(binary.length() < csv.length());
+    }
+
+    @Test
+    void emptyAndBrokenFiles() throws IOException {
+        File empty = dir.resolve("empty.kmc").toFile();
+        new ColumnarMetricsWriter(empty).close();
+        try (ColumnarMetricsReader reader = new ColumnarMetricsReader(empty)) {
+            assertEquals(0, reader.getRowCount());
+            assertEquals(0, reader.aggregate("time_ms").count());
+        }
+
+        File broken = dir.resolve("broken.kmc").toFile();
+        Files.write(broken.toPath(), new byte[40]);
+        assertThrows(IOException.class, () -> new ColumnarMetricsReader(broken));
+
+        File badCsv = dir.resolve("bad.csv").toFile();
+        Files.writeString(badCsv.toPath(), "not,a,header\n");
+        assertThrows(IOException.class, () -> ColumnarMetricsConverter.csvToColumnar(badCsv, dir.resolve("x.kmc").toFile()));
+    }
+}
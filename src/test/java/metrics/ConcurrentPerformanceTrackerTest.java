@@ -0,0 +1,98 @@
+package metrics;
+
+import algorithms.Kadane;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utils.GenerateUtils.*;
+
+/*
+  Tests for ConcurrentPerformanceTracker.
+  Verifies:
+    - increments from many threads are not lost
+    - Kadane.run with one shared tracker aggregates counters of all runs, reset() clears them
+    - CSV output still works through MetricsCsvWriter
+*/
+public class ConcurrentPerformanceTrackerTest {
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        tracker.startTimer();
+                        tracker.incrementComparisons();
+                        tracker.incrementArrayAccesses(2);
+                        tracker.stopTimer();
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40_000, tracker.getComparisons());
+        assertEquals(80_000, tracker.getArrayAccesses());
+        assertEquals(40_000, tracker.getTimedRuns());
+        assertTrue(tracker.getTimeNs() >= 0);
+    }
+
+    @Test
+    void sharedTrackerAggregatesKadaneRuns() throws Exception {
+        long[] array = generateRandomArray(1000);
+        PerformanceTracker single = new PerformanceTracker();
+        Kadane.run(array, single);
+
+        ConcurrentPerformanceTracker shared = new ConcurrentPerformanceTracker();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 6; t++) {
+                futures.add(executor.submit(() -> Kadane.run(array, shared)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(6 * single.getArrayAccesses(), shared.getArrayAccesses());
+        assertEquals(6 * single.getComparisons(), shared.getComparisons());
+        assertEquals(6, shared.getTimedRuns());
+
+        // beginRun keeps the totals, reset clears them like PerformanceTracker.reset
+        shared.beginRun();
+        assertEquals(6 * single.getArrayAccesses(), shared.getArrayAccesses());
+        shared.reset();
+        assertEquals(0, shared.getArrayAccesses());
+        assertEquals(0, shared.getTimeNs());
+        assertEquals(0, shared.getTimedRuns());
+    }
+
+    @Test
+    void csvWriterAcceptsConcurrentTracker() throws Exception {
+        File tmp = Files.createTempFile("metrics_concurrent", ".csv").toFile();
+        tmp.deleteOnExit();
+        ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+        tracker.incrementComparisons(3);
+        MetricsCsvWriter.writeHeader(tmp);
+        MetricsCsvWriter.appendLine(tmp, "Kadane", "random", 10, 1, tracker);
+        String content = new String(Files.readAllBytes(tmp.toPath()));
+        assertTrue(content.contains("Kadane,random,10,1,0,3,0,0,0"));
+        assertEquals("Kadane,random,10,1,0,3,0,0,0", tracker.toCsvLine("Kadane", "random", 10, 1));
+    }
+}
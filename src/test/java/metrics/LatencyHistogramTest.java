@@ -0,0 +1,76 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for LatencyHistogram.
+  Verifies:
+    - small values are exact, large values stay within the bucket precision
+    - percentiles, mean, stddev and max against directly computed values
+    - merging histograms and the CSV summary row
+*/
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketsRoundTripWithinPrecision() {
+        Random rand = new Random(3);
+        for (int t = 0; t < 10_000; t++) {
+            long value = (rand.nextLong() >>> 1) >>> rand.nextInt(63);
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value, "bucket must cover " + value);
+            assertTrue(highest - value <= value / 128, "bucket too wide for " + value);
+        }
+        assertEquals(100, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(100)));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void percentilesMeanAndStdDev() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int v = 1; v <= 100; v++) {
+            histogram.record(v);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(90, histogram.getValueAtPercentile(90));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(99.9));
+        assertEquals(100, histogram.getMax());
+        assertEquals(1, histogram.getMin());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+        assertEquals(29.011, histogram.getStdDev(), 1e-3);
+    }
+
+    @Test
+    void addMergesCountsAndMoments() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        for (int v = 0; v < 1000; v++) {
+            long ns = 1_000L + v * 37L;
+            (v % 3 == 0 ? a : b).record(ns);
+            all.record(ns);
+        }
+        a.add(b);
+        assertEquals(all.getCount(), a.getCount());
+        assertEquals(all.getMean(), a.getMean(), 1e-6);
+        assertEquals(all.getStdDev(), a.getStdDev(), 1e-6);
+        assertEquals(all.getValueAtPercentile(99), a.getValueAtPercentile(99));
+    }
+
+    @Test
+    void latencyCsvLine() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        assertEquals("Kadane,random,100,2,15.0,7.1,10,20,20,20,20",
+                MetricsCsvWriter.toLatencyLine("Kadane", "random", 100, histogram));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+}
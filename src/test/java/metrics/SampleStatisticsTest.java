@@ -0,0 +1,70 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for SampleStatistics.
+  Verifies:
+    - mean, stddev and the 95% confidence interval against hand-computed values
+    - Tukey outlier rejection and the coefficient of variation used for steady state
+    - the rigorous-mode CSV summary row
+*/
+public class SampleStatisticsTest {
+
+    @Test
+    void meanStdDevAndConfidenceInterval() {
+        long[] samples = {10, 12, 9, 11, 10, 13, 8, 10, 11, 6};
+        SampleStatistics stats = SampleStatistics.of(samples, 0);
+        assertEquals(10, stats.getCount());
+        assertEquals(0, stats.getOutliers());
+        assertEquals(10.0, stats.getMean(), 1e-9);
+        assertEquals(2.0, stats.getStdDev(), 1e-9);
+        double halfWidth = 2.262 * 2.0 / Math.sqrt(10);
+        assertEquals(halfWidth, stats.getConfidenceHalfWidth(), 1e-9);
+        assertEquals(10 - halfWidth, stats.getLower95(), 1e-9);
+        assertEquals(10 + halfWidth, stats.getUpper95(), 1e-9);
+    }
+
+    @Test
+    void tukeyFencesDropOutliers() {
+        long[] samples = {100, 101, 99, 100, 102, 98, 100, 5000, 101, 1};
+        SampleStatistics stats = SampleStatistics.of(samples, 1.5);
+        assertEquals(8, stats.getCount());
+        assertEquals(2, stats.getOutliers());
+        assertEquals(100.125, stats.getMean(), 1e-9);
+
+        SampleStatistics kept = SampleStatistics.of(samples, 0);
+        assertEquals(10, kept.getCount());
+        assertTrue(kept.getCoefficientOfVariation() > 1);
+    }
+
+    @Test
+    void coefficientOfVariationAndEdgeCases() {
+        long[] samples = {0, 100, 100, 100, 100, 0};
+        assertEquals(0.0, SampleStatistics.coefficientOfVariation(samples, 1, 5), 1e-12);
+        assertTrue(Double.isNaN(SampleStatistics.coefficientOfVariation(samples, 1, 2)));
+        assertTrue(SampleStatistics.coefficientOfVariation(samples, 0, 6) > 0.5);
+
+        SampleStatistics single = SampleStatistics.of(new long[]{42}, 1.5);
+        assertEquals(42.0, single.getMean());
+        assertTrue(Double.isNaN(single.getConfidenceHalfWidth()));
+        assertEquals(0, SampleStatistics.of(new long[0], 1.5).getCount());
+
+        assertEquals(12.706, SampleStatistics.tCritical95(1));
+        assertEquals(2.042, SampleStatistics.tCritical95(30));
+        assertEquals(1.984, SampleStatistics.tCritical95(100), 1e-3);
+        assertThrows(IllegalArgumentException.class, () -> SampleStatistics.of(samples, 4, 2, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> SampleStatistics.of(null, 1.5));
+    }
+
+    @Test
+    void statsLineFormat() {
+        SampleStatistics stats = SampleStatistics.of(new long[]{100, 100, 100, 100}, 1.5);
+        assertEquals("Kadane,random,1000,20,7,true,4,0,100.0,0.0,0.0000,100.0,100.0",
+                MetricsCsvWriter.toStatsLine("Kadane", "random", 1000, 20, 7, true, stats));
+        assertEquals(MetricsCsvWriter.STATS_HEADER.split(",").length,
+                MetricsCsvWriter.toStatsLine("Kadane", "random", 1000, 20, 7, true, stats).split(",").length);
+    }
+}
@@ -0,0 +1,84 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for DatasetCache.
+  Verifies:
+    - hits return the same array, keys separate type, size and seed
+    - LRU eviction within the byte budget, arrays above the budget are not kept
+    - spill files are reused by a new cache instead of generating again, file names are portable
+*/
+public class DatasetCacheTest {
+
+    @Test
+    void hitsAndMissesPerKey() throws IOException {
+        DatasetCache cache = new DatasetCache(1 << 20);
+        long[] first = cache.get("random", 1000, 1);
+        assertSame(first, cache.get("RANDOM", 1000, 1));
+        assertArrayEquals(new ParallelDataGenerator("random", 1000, 1).generate(), first);
+        assertNotSame(first, cache.get("random", 1000, 2));
+        assertNotSame(first, cache.get("random", 1001, 1));
+        assertNotSame(first, cache.get("sorted", 1000, 1));
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(4, cache.getResidentCount());
+        assertEquals(8L * (1000 + 1000 + 1001 + 1000), cache.getResidentBytes());
+        assertThrows(IllegalArgumentException.class, () -> cache.get("../random", 10, 1));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWithinBudget() throws IOException {
+        DatasetCache cache = new DatasetCache(3 * 8 * 1000);
+        long[] a = cache.get("random", 1000, 1);
+        cache.get("random", 1000, 2);
+        cache.get("random", 1000, 3);
+        assertSame(a, cache.get("random", 1000, 1));   // a is now the most recently used
+        cache.get("random", 1000, 4);                  // evicts seed 2
+        assertEquals(1, cache.getEvictions());
+        assertSame(a, cache.get("random", 1000, 1));
+        cache.get("random", 1000, 2);
+        assertEquals(5, cache.getMisses());
+        assertTrue(cache.getResidentBytes() <= 3 * 8 * 1000);
+
+        long[] big = cache.get("sorted", 5000, 1);
+        assertEquals(5000, big.length);
+        assertNotSame(big, cache.get("sorted", 5000, 1));
+        assertEquals(3, cache.getResidentCount());
+    }
+
+    @Test
+    void spillFilesAreLoadedByLaterCaches(@TempDir Path dir) throws IOException {
+        DatasetCache first = new DatasetCache(1 << 20, dir, ForkJoinPool.commonPool());
+        long[] generated = first.get("nearly_sorted", 50_000, 7);
+        first.get("all_negative", 0, 7);
+        assertEquals(2, first.getMisses());
+        assertTrue(Files.isRegularFile(dir.resolve("nearly_sorted-50000-7.bin")));
+        assertEquals(50_000L * 8, Files.size(dir.resolve("nearly_sorted-50000-7.bin")));
+
+        DatasetCache second = new DatasetCache(1 << 20, dir, ForkJoinPool.commonPool());
+        assertArrayEquals(generated, second.get("nearly_sorted", 50_000, 7));
+        assertEquals(0, second.get("all_negative", 0, 7).length);
+        assertEquals(0, second.getMisses());
+        assertEquals(2, second.getDiskLoads());
+
+        // a truncated file is ignored and rewritten
+        Files.write(dir.resolve("random-100-1.bin"), new byte[16]);
+        assertArrayEquals(new ParallelDataGenerator("random", 100, 1).generate(), second.get("random", 100, 1));
+        assertEquals(1, second.getMisses());
+        assertEquals(800, Files.size(dir.resolve("random-100-1.bin")));
+
+        long[] biased = second.get("random_signs:0.3", 100, 1);
+        assertTrue(Files.isRegularFile(dir.resolve("random_signs_0.3-100-1.bin")));
+        assertArrayEquals(biased, new DatasetCache(0, dir, ForkJoinPool.commonPool()).get("random_signs:0.3", 100, 1));
+        assertEquals("random_signs:0.3@seed1", DatasetCache.label("random_signs:0.3", 1));
+    }
+}
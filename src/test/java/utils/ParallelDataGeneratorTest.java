@@ -0,0 +1,126 @@
+package utils;
+
+import algorithms.Kadane;
+import algorithms.KadaneFileEngine;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Tests for ParallelDataGenerator.
+  Verifies:
+    - the random stream is SplittableRandom's, and output does not depend on the thread count
+    - sub-range fills, direct buffers and mapped files agree with the full array
+    - value ranges and the nearly_sorted permutation
+*/
+public class ParallelDataGeneratorTest {
+    private static final String[] TYPES = {"random", "sorted", "reverse_sorted", "all_positive", "all_negative", "nearly_sorted",
+            "alternating_signs", "random_signs", "random_signs:0.8"};
+
+    private static ForkJoinPool single;
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPools() {
+        single = new ForkJoinPool(1);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPools() {
+        single.shutdown();
+        pool.shutdown();
+    }
+
+    @Test
+    void randomStreamMatchesSplittableRandom() {
+        SplittableRandom rand = new SplittableRandom(1234);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(rand.nextLong(), ParallelDataGenerator.randomLong(1234, i));
+        }
+    }
+
+    @Test
+    void outputIndependentOfThreadsAndSplits() {
+        int size = 300_001;
+        for (String type : TYPES) {
+            ParallelDataGenerator generator = new ParallelDataGenerator(type, size, 7);
+            long[] expected = generator.generate(single);
+            assertArrayEquals(expected, generator.generate(pool), type);
+
+            long[] part = new long[12_345];
+            generator.fill(part, 200_000, pool);
+            assertArrayEquals(Arrays.copyOfRange(expected, 200_000, 212_345), part, type);
+
+            LongBuffer direct = ByteBuffer.allocateDirect(1000 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            direct.position(10);
+            generator.fill(direct, 5_000, pool);
+            assertEquals(10, direct.position());
+            for (int i = 10; i < 1000; i++) {
+                assertEquals(expected[5_000 + i - 10], direct.get(i), type);
+            }
+            assertEquals(expected[size - 1], generator.valueAt(size - 1));
+        }
+    }
+
+    @Test
+    void valuesHaveTheExpectedShape() {
+        int size = 100_000;
+        assertArrayEquals(GenerateUtils.generateSortedArray(size), new ParallelDataGenerator("sorted", size, 1).generate(pool));
+        assertArrayEquals(GenerateUtils.generateReverseSortedArray(size), new ParallelDataGenerator("reverse_sorted", size, 1).generate(pool));
+        assertArrayEquals(GenerateUtils.generateAllNegativeArray(size), new ParallelDataGenerator("ALL_NEGATIVE", size, 1).generate(pool));
+
+        long[] random = new ParallelDataGenerator("random", size, 3).generate(pool);
+        assertTrue(Arrays.stream(random).allMatch(v -> v >= -1000 && v <= 1000));
+        assertFalse(Arrays.equals(random, new ParallelDataGenerator("random", size, 4).generate(pool)));
+
+        long[] biased = new ParallelDataGenerator("random_signs:0.8", size, 6).generate(pool);
+        long positives = Arrays.stream(biased).filter(v -> v > 0).count();
+        assertTrue(positives > 79_000 && positives < 81_000, "positives " + positives);
+        assertTrue(Arrays.stream(new ParallelDataGenerator("random_signs:1", size, 6).generate(pool)).allMatch(v -> v > 0));
+        long[] alternating = new ParallelDataGenerator("alternating_signs", size, 6).generate(pool);
+        assertTrue(alternating[0] > 0 && alternating[1] < 0 && alternating[size - 1] < 0);
+
+        long[] nearly = new ParallelDataGenerator("nearly_sorted", size + 17, 5).generate(pool);
+        long displaced = 0;
+        for (int i = 0; i < nearly.length; i++) {
+            if (nearly[i] != i + 1) {
+                displaced++;
+            }
+        }
+        assertTrue(displaced > nearly.length / 20 && displaced < nearly.length / 5, "displaced " + displaced);
+        long[] sorted = nearly.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(GenerateUtils.generateSortedArray(nearly.length), sorted);
+    }
+
+    @Test
+    void writeFileMatchesInMemoryResult(@TempDir Path dir) throws IOException {
+        ParallelDataGenerator generator = new ParallelDataGenerator("random", 200_000, 11);
+        Path file = dir.resolve("random.bin");
+        generator.writeFile(file, pool);
+        assertEquals(Kadane.run(generator.generate(pool)).getMaxSum(), KadaneFileEngine.run(file).getMaxSum());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelDataGenerator("zigzag", 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelDataGenerator("random", -1, 1));
+        ParallelDataGenerator generator = new ParallelDataGenerator("random", 10, 1);
+        assertThrows(IllegalArgumentException.class, () -> generator.valueAt(10));
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(new long[5], 6, pool));
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(LongBuffer.allocate(4).asReadOnlyBuffer(), 0, pool));
+    }
+}